@@ -0,0 +1,101 @@
+package com.crudlandia.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.models.entities.ExemploEntity;
+import com.crudlandia.models.repository.ExemploRepository;
+import com.crudlandia.services.exemplo.ExemploService;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Leitura de um exemplo por ID: carregamento da entidade seguido de {@code getDRO()} (caminho
+ * atual de {@code buscarPorId}) comparado com a projeção direta em DTO.
+ *
+ * <p>
+ * A alocação por chamada aparece em {@code gc.alloc.rate.norm} (profiler {@code gc}, habilitado
+ * na configuração do JMH). O carregamento da entidade é medido pelo serviço, a partir do cache de
+ * segundo nível, e lendo do banco (ignorando o cache); a projeção sempre vai ao banco.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BuscaExemploBenchmark {
+
+    private static final Map<String, Object> IGNORAR_CACHE =
+            Map.of("jakarta.persistence.cache.retrieveMode", CacheRetrieveMode.BYPASS);
+
+    private ConfigurableApplicationContext contexto;
+    private ExemploService exemploService;
+    private ExemploRepository exemploRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate somenteLeitura;
+    private Long exemploId;
+
+    @Setup
+    public void setup() throws Exception {
+        contexto = ContextoBenchmark.iniciar("jmhBusca");
+        exemploService = contexto.getBean(ExemploService.class);
+        exemploRepository = contexto.getBean(ExemploRepository.class);
+        // EntityManager da transação corrente: cada execução usa um contexto de persistência novo
+        entityManager = SharedEntityManagerCreator
+                .createSharedEntityManager(contexto.getBean(EntityManagerFactory.class));
+        somenteLeitura =
+                new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class));
+        somenteLeitura.setReadOnly(true);
+
+        exemploId = exemploService.criar(ContextoBenchmark.criarReferencia(contexto), "Exemplo",
+                "Descrição do exemplo", 1, new BigDecimal("100.50"), 50.5,
+                LocalDateTime.of(2025, 11, 1, 10, 0)).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public ExemploDTO buscarPorId() throws Exception {
+        return exemploService.buscarPorId(exemploId);
+    }
+
+    @Benchmark
+    public ExemploDTO projecao() {
+        return somenteLeitura.execute(
+                status -> exemploRepository.findDTOById(exemploId).orElseThrow());
+    }
+
+    @Benchmark
+    public ExemploDTO entidadeBanco() {
+        return somenteLeitura.execute(status -> carregar(IGNORAR_CACHE));
+    }
+
+    @Benchmark
+    public ExemploDTO entidadeCache() {
+        return somenteLeitura.execute(status -> carregar(Map.of()));
+    }
+
+    private ExemploDTO carregar(Map<String, Object> propriedades) {
+        return entityManager.find(ExemploEntity.class, exemploId, propriedades).getDRO();
+    }
+}
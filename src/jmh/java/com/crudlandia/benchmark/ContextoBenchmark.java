@@ -0,0 +1,33 @@
+package com.crudlandia.benchmark;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.crudlandia.CrudlandiaApplication;
+import com.crudlandia.models.entities.ReferenciaEntity;
+import com.crudlandia.models.repository.ReferenciaRepository;
+
+/**
+ * Inicialização do contexto Spring usado pelos benchmarks de serviço: aplicação completa, sem
+ * servidor web, sobre um banco H2 em memória próprio de cada benchmark.
+ */
+final class ContextoBenchmark {
+
+    private ContextoBenchmark() {
+    }
+
+    static ConfigurableApplicationContext iniciar(String banco) {
+        return SpringApplication.run(CrudlandiaApplication.class,
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:" + banco
+                        + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+    }
+
+    static Long criarReferencia(ConfigurableApplicationContext contexto) {
+        ReferenciaEntity referencia = new ReferenciaEntity();
+        referencia.setCodigo("REF001");
+        referencia.setNome("Referência");
+        return contexto.getBean(ReferenciaRepository.class).save(referencia).getId();
+    }
+}
@@ -0,0 +1,94 @@
+package com.crudlandia.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.exceptions.ExemploNomeDuplicadoException;
+import com.crudlandia.exceptions.ReferenciaNaoEncontradoException;
+import com.crudlandia.services.exemplo.ExemploService;
+
+/**
+ * Criação de {@code quantidade} exemplos com {@code ExemploServiceImpl.criarLote} (validação por
+ * conjunto e INSERTs em lote JDBC, em uma transação) contra a mesma quantidade de chamadas a
+ * {@code criar} (uma transação e um INSERT por exemplo).
+ *
+ * <p>
+ * O resultado é o tempo por operação, isto é, por {@code quantidade} exemplos. Como em
+ * {@link ExemploServiceBenchmark}, o banco é H2 em memória: contra um banco remoto a diferença
+ * tende a ser maior, pois cada ida e volta economizada custa a latência da rede.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CriacaoLoteBenchmark {
+
+    private final AtomicLong contador = new AtomicLong();
+
+    @Param({"100", "1000"})
+    private int quantidade;
+
+    private ConfigurableApplicationContext contexto;
+    private ExemploService exemploService;
+    private Long referenciaId;
+
+    @Setup
+    public void setup() {
+        contexto = ContextoBenchmark.iniciar("jmhlote");
+        exemploService = contexto.getBean(ExemploService.class);
+        referenciaId = ContextoBenchmark.criarReferencia(contexto);
+    }
+
+    @TearDown
+    public void tearDown() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public List<ExemploDTO> criarLote()
+            throws ReferenciaNaoEncontradoException, ExemploNomeDuplicadoException {
+        return exemploService.criarLote(exemplos());
+    }
+
+    @Benchmark
+    public List<ExemploDTO> criarEmLaco()
+            throws ReferenciaNaoEncontradoException, ExemploNomeDuplicadoException {
+        List<ExemploDTO> criados = new ArrayList<>(quantidade);
+        for (ExemploDTO exemplo : exemplos()) {
+            criados.add(exemploService.criar(exemplo.getReferenciaId(), exemplo.getNome(),
+                    exemplo.getDescricao(), exemplo.getSequencia(), exemplo.getValor(),
+                    exemplo.getPeso(), exemplo.getDthrEmissao()));
+        }
+        return criados;
+    }
+
+    /**
+     * Exemplos com nomes ainda não usados, para que cada operação crie todos eles.
+     */
+    private List<ExemploDTO> exemplos() {
+        List<ExemploDTO> exemplos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            exemplos.add(new ExemploDTO(null, referenciaId,
+                    "Exemplo " + contador.incrementAndGet(), "Descrição do exemplo", 1,
+                    new BigDecimal("100.50"), 50.5, LocalDateTime.of(2025, 11, 1, 10, 0), null,
+                    null, null));
+        }
+        return exemplos;
+    }
+}
@@ -0,0 +1,52 @@
+package com.crudlandia.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.enums.StatusEnum;
+import com.crudlandia.models.entities.ExemploEntity;
+import com.crudlandia.models.entities.ReferenciaEntity;
+
+/**
+ * Dados fixos usados pelos benchmarks, com valores típicos de produção em todos os campos.
+ */
+final class DadosBenchmark {
+
+    private DadosBenchmark() {
+    }
+
+    static ExemploEntity entidade(long id) {
+        ReferenciaEntity referencia = new ReferenciaEntity();
+        referencia.setId(1L);
+        referencia.setCodigo("REF001");
+        referencia.setNome("Referência");
+
+        ExemploEntity entity = new ExemploEntity();
+        entity.setId(id);
+        entity.setReferencia(referencia);
+        entity.setNome("Exemplo " + id);
+        entity.setDescricao("Descrição do exemplo " + id);
+        entity.setSequencia((int) id);
+        entity.setValor(new BigDecimal("100.50"));
+        entity.setPeso(50.5);
+        entity.setDthrEmissao(LocalDateTime.of(2025, 11, 1, 10, 0));
+        entity.setStatus(StatusEnum.ATIVO);
+        entity.setAtivo(true);
+        return entity;
+    }
+
+    static ExemploDTO dto(long id) {
+        return entidade(id).getDRO();
+    }
+
+    static List<ExemploDTO> dtos(int quantidade) {
+        List<ExemploDTO> dtos = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            dtos.add(dto(i));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,71 @@
+package com.crudlandia.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.exceptions.ExemploNaoEncontradoException;
+import com.crudlandia.exceptions.ExemploNomeDuplicadoException;
+import com.crudlandia.exceptions.ReferenciaNaoEncontradoException;
+import com.crudlandia.services.exemplo.ExemploService;
+
+/**
+ * {@code ExemploServiceImpl.criar} e {@code buscarPorId} com o contexto Spring completo sobre H2
+ * em memória (sem servidor web).
+ *
+ * <p>
+ * Mede o caminho de serviço inteiro (proxy transacional, Hibernate, JDBC), não a latência de um
+ * banco real. Cada chamada de {@code criar} insere uma linha com nome único, portanto a tabela
+ * cresce ao longo das iterações.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExemploServiceBenchmark {
+
+    private final AtomicLong contador = new AtomicLong();
+
+    private ConfigurableApplicationContext contexto;
+    private ExemploService exemploService;
+    private Long referenciaId;
+    private Long exemploId;
+
+    @Setup
+    public void setup() throws Exception {
+        contexto = ContextoBenchmark.iniciar("jmh");
+        exemploService = contexto.getBean(ExemploService.class);
+        referenciaId = ContextoBenchmark.criarReferencia(contexto);
+        exemploId = criar().getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public ExemploDTO criar()
+            throws ReferenciaNaoEncontradoException, ExemploNomeDuplicadoException {
+        return exemploService.criar(referenciaId, "Exemplo " + contador.incrementAndGet(),
+                "Descrição do exemplo", 1, new BigDecimal("100.50"), 50.5,
+                LocalDateTime.of(2025, 11, 1, 10, 0));
+    }
+
+    @Benchmark
+    public ExemploDTO buscarPorId() throws ExemploNaoEncontradoException {
+        return exemploService.buscarPorId(exemploId);
+    }
+}
@@ -0,0 +1,108 @@
+package com.crudlandia.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.pagehelper.PageInfo;
+
+/**
+ * Serialização e desserialização da página de listagem ({@link PageInfo}) em JSON, CBOR e Smile.
+ *
+ * <p>
+ * Os mapeadores são criados pelo mesmo builder usado pelo Spring Boot, trocando apenas a fábrica,
+ * como em {@code FormatosBinariosConfig}. O tamanho da página serializada em cada formato, sem e
+ * com gzip, é reportado junto com o tempo pelos contadores auxiliares {@code bytes} e
+ * {@code bytesGzip} ({@link Tamanhos}).
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FormatoBinarioBenchmark {
+
+    private static final TypeReference<PageInfo<ExemploDTO>> TIPO_PAGINA = new TypeReference<>() {
+    };
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public String formato;
+
+    @Param({"10", "100"})
+    public int tamanhoPagina;
+
+    private ObjectMapper objectMapper;
+    private PageInfo<ExemploDTO> pageInfo;
+    private byte[] serializada;
+    private int tamanhoGzip;
+
+    @Setup
+    public void setup() throws IOException {
+        JsonFactory fabrica = switch (formato) {
+            case "CBOR" -> new CBORFactory();
+            case "SMILE" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json().factory(fabrica).build();
+        List<ExemploDTO> itens = DadosBenchmark.dtos(tamanhoPagina);
+        pageInfo = new PageInfo<>(itens);
+        serializada = objectMapper.writeValueAsBytes(pageInfo);
+        tamanhoGzip = gzip(serializada).length;
+    }
+
+    @Benchmark
+    public byte[] serializar(Tamanhos tamanhos) throws IOException {
+        return objectMapper.writeValueAsBytes(pageInfo);
+    }
+
+    @Benchmark
+    public PageInfo<ExemploDTO> desserializar(Tamanhos tamanhos) throws IOException {
+        return objectMapper.readValue(serializada, TIPO_PAGINA);
+    }
+
+    /**
+     * Contadores auxiliares com o tamanho da página serializada, reportados pelo JMH em cada
+     * resultado ({@code serializar:bytes}, {@code serializar:bytesGzip}, ...). Os valores são
+     * atribuídos, e não acumulados, a cada iteração.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Tamanhos {
+
+        public long bytes;
+        public long bytesGzip;
+
+        @Setup(Level.Iteration)
+        public void setup(FormatoBinarioBenchmark benchmark) {
+            bytes = benchmark.serializada.length;
+            bytesGzip = benchmark.tamanhoGzip;
+        }
+    }
+
+    private static byte[] gzip(byte[] dados) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(dados);
+        }
+        return saida.toByteArray();
+    }
+}
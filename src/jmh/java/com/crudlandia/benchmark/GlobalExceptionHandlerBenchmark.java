@@ -0,0 +1,125 @@
+package com.crudlandia.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import com.crudlandia.dtos.ErroDTO;
+import com.crudlandia.exceptions.ApiException;
+import com.crudlandia.exceptions.ExemploNaoEncontradoException;
+import com.crudlandia.exceptions.GlobalExceptionHandler;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Resposta de exemplo inexistente pelo {@link GlobalExceptionHandler}.
+ *
+ * <p>
+ * {@code corpoErro} mede apenas o handler com uma exceção já criada; {@code lancarEResponder}
+ * inclui a criação da exceção, como acontece em uma requisição real de exemplo inexistente, e
+ * {@code lancarResponderESerializar} também a serialização do corpo. As variantes
+ * {@code ...ComPilha} reproduzem a implementação anterior (exceção com pilha de chamadas,
+ * anotação lida por reflexão a cada erro e corpo montado em um {@code HashMap}), para comparação
+ * na mesma execução.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private WebRequest request;
+    private ObjectMapper objectMapper;
+    private ExemploNaoEncontradoException excecao;
+
+    @Setup
+    public void setup() {
+        handler = new GlobalExceptionHandler();
+        request = new ServletWebRequest(
+                new MockHttpServletRequest("GET", "/crudlandia/cadastro/exemplo/buscarPorId/999"));
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        excecao = new ExemploNaoEncontradoException(999L);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErroDTO> corpoErro() {
+        return handler.handleApiException(excecao, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErroDTO> lancarEResponder() {
+        try {
+            throw new ExemploNaoEncontradoException(999L);
+        } catch (ExemploNaoEncontradoException ex) {
+            return handler.handleApiException(ex, request);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> lancarEResponderComPilha() {
+        try {
+            throw new ExemploNaoEncontradoComPilhaException(999L);
+        } catch (ExemploNaoEncontradoComPilhaException ex) {
+            return respostaAnterior(ex, request);
+        }
+    }
+
+    @Benchmark
+    public byte[] lancarResponderESerializar() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(lancarEResponder().getBody());
+    }
+
+    @Benchmark
+    public byte[] lancarResponderESerializarComPilha() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(lancarEResponderComPilha().getBody());
+    }
+
+    /**
+     * Implementação anterior do handler.
+     */
+    private static ResponseEntity<Map<String, Object>> respostaAnterior(Exception ex,
+            WebRequest request) {
+        String message = ex.getClass().getSimpleName();
+        if (ex.getClass().isAnnotationPresent(ApiException.class)) {
+            message = ex.getClass().getAnnotation(ApiException.class).value();
+        }
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        body.put("error", "Internal Server Error");
+        body.put("message", message);
+        body.put("path", request.getDescription(false).replace("uri=", ""));
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
+    }
+
+    @ApiException("EXEMPLO_NAO_ENCONTRADO")
+    static class ExemploNaoEncontradoComPilhaException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private final Long id;
+
+        ExemploNaoEncontradoComPilhaException(Long id) {
+            this.id = id;
+        }
+
+        Long getId() {
+            return id;
+        }
+    }
+}
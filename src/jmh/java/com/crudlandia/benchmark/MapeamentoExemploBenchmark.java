@@ -0,0 +1,41 @@
+package com.crudlandia.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.models.entities.BaseEntity;
+import com.crudlandia.models.entities.ExemploEntity;
+
+/**
+ * Conversão de {@link ExemploEntity} para {@link ExemploDTO}, executada em toda resposta do CRUD.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapeamentoExemploBenchmark {
+
+    private ExemploEntity entity;
+
+    @Setup
+    public void setup() {
+        entity = DadosBenchmark.entidade(42L);
+    }
+
+    @Benchmark
+    public ExemploDTO getDRO() {
+        return entity.getDRO();
+    }
+
+    @Benchmark
+    public ExemploDTO mapEntity() {
+        return BaseEntity.mapEntity(entity, ExemploEntity::getDRO);
+    }
+}
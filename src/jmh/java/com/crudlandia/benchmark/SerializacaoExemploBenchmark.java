@@ -0,0 +1,66 @@
+package com.crudlandia.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.dtos.PaginaDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.pagehelper.PageInfo;
+
+/**
+ * Serialização JSON das respostas do CRUD de exemplos.
+ *
+ * <p>
+ * O {@link ObjectMapper} é criado pelo mesmo builder usado pelo Spring Boot (módulos de data/hora
+ * registrados e datas como texto). {@code tamanhoPagina} varia o número de itens das listagens.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializacaoExemploBenchmark {
+
+    @Param({"10", "100"})
+    public int tamanhoPagina;
+
+    private ObjectMapper objectMapper;
+    private ExemploDTO exemplo;
+    private PageInfo<ExemploDTO> pageInfo;
+    private PaginaDTO<ExemploDTO> pagina;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        exemplo = DadosBenchmark.dto(42L);
+        List<ExemploDTO> itens = DadosBenchmark.dtos(tamanhoPagina);
+        pageInfo = new PageInfo<>(itens);
+        pagina = new PaginaDTO<>(itens, 1, tamanhoPagina, null, true, null);
+    }
+
+    @Benchmark
+    public byte[] exemploDTO() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(exemplo);
+    }
+
+    @Benchmark
+    public byte[] listagemPageInfo() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pageInfo);
+    }
+
+    @Benchmark
+    public byte[] listagemResumida() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+}
@@ -1,8 +1,12 @@
 package com.crudlandia;
 
 import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+import com.crudlandia.config.ConsultaLentaInterceptor;
 
 @SpringBootApplication
 @MapperScan("com.crudlandia.mappers")
@@ -12,4 +16,16 @@ public class CrudlandiaApplication {
 		SpringApplication.run(CrudlandiaApplication.class, args);
 	}
 
+	/**
+	 * Interceptor de consultas lentas dos mappers MyBatis (registrado automaticamente pelo
+	 * starter do MyBatis, como todo bean {@code Interceptor}).
+	 */
+	@Bean
+	public ConsultaLentaInterceptor consultaLentaInterceptor(
+			@Value("${app.monitoramento.consulta-lenta.limite-ms:500}") long limiteMs,
+			@Value("${app.monitoramento.consulta-lenta.amostragem:1.0}") double amostragem,
+			@Value("${app.monitoramento.consulta-lenta.capacidade:100}") int capacidade) {
+		return new ConsultaLentaInterceptor(limiteMs, amostragem, capacidade);
+	}
+
 }
@@ -0,0 +1,35 @@
+package com.crudlandia.config;
+
+/**
+ * Armazenamento das respostas das requisições com chave de idempotência.
+ *
+ * <p>
+ * As implementações descartam as respostas após o prazo de validade configurado, e podem
+ * descartá-las antes por limite de tamanho: uma chave descartada é tratada como nova.
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ * @see IdempotenciaFilter
+ */
+public interface ArmazenamentoIdempotencia {
+
+    /**
+     * Busca a resposta armazenada para a chave.
+     *
+     * @param chave chave da requisição
+     * @return a resposta armazenada, ou null se não houver (ou tiver expirado)
+     */
+    RespostaIdempotente buscar(String chave);
+
+    /**
+     * Armazena a resposta da chave. Se já houver resposta válida para a chave, mantém a
+     * existente.
+     *
+     * @param chave chave da requisição
+     * @param resposta resposta a ser repetida
+     */
+    void salvar(String chave, RespostaIdempotente resposta);
+
+}
@@ -0,0 +1,126 @@
+package com.crudlandia.config;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Armazenamento das respostas idempotentes na tabela {@code idempotencia}, compartilhado entre as
+ * instâncias da aplicação.
+ *
+ * <p>
+ * A tabela é criada na inicialização, se não existir, e as colunas acrescentadas depois da
+ * primeira versão são adicionadas a tabelas já existentes (os comandos são os mesmos no H2 e no
+ * PostgreSQL). Cada linha guarda o instante de expiração em milissegundos; linhas expiradas são
+ * ignoradas na busca e removidas periodicamente. Quando duas instâncias gravam a mesma chave, a
+ * primeira gravação prevalece (chave primária).
+ * </p>
+ *
+ * <p>
+ * A tabela compartilha apenas as respostas já concluídas: a espera pela requisição em andamento
+ * com a mesma chave ({@link IdempotenciaFilter}) continua valendo só dentro de cada instância.
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ArmazenamentoIdempotenciaJdbc implements ArmazenamentoIdempotencia, InitializingBean,
+        DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ArmazenamentoIdempotenciaJdbc.class);
+
+    private static final String CRIAR_TABELA = "create table if not exists idempotencia ("
+            + " chave varchar(1024) not null primary key, status integer not null,"
+            + " content_type varchar(255), etag varchar(255), location varchar(2048),"
+            + " corpo bytea, impressao varchar(64), expira_em bigint not null)";
+
+    /**
+     * Coluna da impressão do corpo da requisição, ausente nas tabelas criadas antes dela.
+     */
+    private static final String ADICIONAR_IMPRESSAO =
+            "alter table idempotencia add column if not exists impressao varchar(64)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlMs;
+    private final long intervaloLimpezaMs;
+    private ScheduledExecutorService limpeza;
+
+    /**
+     * @param jdbcTemplate acesso ao banco da tabela {@code idempotencia}
+     * @param ttlSegundos tempo de validade de cada resposta
+     * @param intervaloLimpezaMs intervalo entre as remoções de respostas expiradas
+     */
+    public ArmazenamentoIdempotenciaJdbc(JdbcTemplate jdbcTemplate, long ttlSegundos,
+            long intervaloLimpezaMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlMs = TimeUnit.SECONDS.toMillis(ttlSegundos);
+        this.intervaloLimpezaMs = intervaloLimpezaMs;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        jdbcTemplate.execute(CRIAR_TABELA);
+        jdbcTemplate.execute(ADICIONAR_IMPRESSAO);
+        limpeza = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "limpeza-idempotencia");
+            thread.setDaemon(true);
+            return thread;
+        });
+        limpeza.scheduleWithFixedDelay(this::removerExpiradas, intervaloLimpezaMs,
+                intervaloLimpezaMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (limpeza != null) {
+            limpeza.shutdownNow();
+        }
+    }
+
+    @Override
+    public RespostaIdempotente buscar(String chave) {
+        List<RespostaIdempotente> respostas = jdbcTemplate.query(
+                "select status, content_type, etag, location, corpo, impressao from idempotencia"
+                        + " where chave = ? and expira_em > ?",
+                (rs, linha) -> new RespostaIdempotente(rs.getInt(1), rs.getString(2),
+                        rs.getString(3), rs.getString(4), rs.getBytes(5), rs.getString(6)),
+                chave, System.currentTimeMillis());
+        return respostas.isEmpty() ? null : respostas.get(0);
+    }
+
+    @Override
+    public void salvar(String chave, RespostaIdempotente resposta) {
+        long agora = System.currentTimeMillis();
+        jdbcTemplate.update("delete from idempotencia where chave = ? and expira_em <= ?", chave,
+                agora);
+        try {
+            jdbcTemplate.update("insert into idempotencia (chave, status, content_type, etag,"
+                    + " location, corpo, impressao, expira_em) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                    chave, resposta.status(), resposta.contentType(), resposta.etag(),
+                    resposta.location(), resposta.corpo(), resposta.impressao(), agora + ttlMs);
+        } catch (DuplicateKeyException e) {
+            // Outra instância gravou a mesma chave: a primeira resposta prevalece
+        }
+    }
+
+    private void removerExpiradas() {
+        try {
+            jdbcTemplate.update("delete from idempotencia where expira_em <= ?",
+                    System.currentTimeMillis());
+        } catch (DataAccessException e) {
+            log.warn("Nao foi possivel remover as chaves de idempotencia expiradas: {}",
+                    e.getMostSpecificCause().getMessage());
+        }
+    }
+
+}
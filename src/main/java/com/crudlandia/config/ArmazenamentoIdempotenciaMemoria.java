@@ -0,0 +1,54 @@
+package com.crudlandia.config;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Armazenamento das respostas idempotentes em memória (Caffeine), limitado pelo tamanho total
+ * das respostas e por tempo desde a gravação.
+ *
+ * <p>
+ * O limite é em bytes (corpo mais chave), e não em quantidade de chaves, para que poucas respostas
+ * grandes (por exemplo, de {@code criarLote}) não ocupem uma memória desproporcional.
+ * </p>
+ *
+ * <p>
+ * Cada instância da aplicação tem o seu: com mais de uma instância, uma repetição atendida por
+ * outra instância não encontra a resposta. Nesse caso use o armazenamento JDBC.
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ArmazenamentoIdempotenciaMemoria implements ArmazenamentoIdempotencia {
+
+    private final Cache<String, RespostaIdempotente> respostas;
+
+    /**
+     * @param tamanhoMaximoBytes soma máxima dos tamanhos das respostas armazenadas
+     * @param ttlSegundos tempo de validade de cada resposta
+     */
+    public ArmazenamentoIdempotenciaMemoria(long tamanhoMaximoBytes, long ttlSegundos) {
+        this.respostas = Caffeine.newBuilder().maximumWeight(tamanhoMaximoBytes)
+                .weigher(ArmazenamentoIdempotenciaMemoria::tamanho)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos)).build();
+    }
+
+    @Override
+    public RespostaIdempotente buscar(String chave) {
+        return respostas.getIfPresent(chave);
+    }
+
+    @Override
+    public void salvar(String chave, RespostaIdempotente resposta) {
+        respostas.asMap().putIfAbsent(chave, resposta);
+    }
+
+    private static int tamanho(String chave, RespostaIdempotente resposta) {
+        return chave.length() + resposta.corpo().length;
+    }
+
+}
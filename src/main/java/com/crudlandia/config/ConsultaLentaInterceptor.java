@@ -0,0 +1,228 @@
+package com.crudlandia.config;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.crudlandia.dtos.ConsultaLentaDTO;
+
+/**
+ * Interceptor MyBatis que registra os comandos mais lentos que um limite configurado.
+ *
+ * <p>
+ * Todo comando é cronometrado; apenas os que ultrapassam o limite têm o SQL, os parâmetros e a
+ * quantidade de linhas extraídos, registrados em log (WARN) e guardados em um buffer circular de
+ * capacidade fixa, consultado por {@code GET /monitoramento/consultasLentas}. Quando o buffer
+ * está cheio, as ocorrências mais antigas são sobrescritas. A amostragem ({@code 0} a {@code 1})
+ * limita a fração das consultas lentas registradas, para que uma degradação geral não gere log
+ * em excesso.
+ * </p>
+ *
+ * <p>
+ * Comandos que falham também são cronometrados e, se lentos, registrados com a mensagem do erro
+ * (por exemplo, um comando cancelado pelo tempo limite do banco). Nas consultas que devolvem um
+ * {@code Cursor}, apenas a execução é cronometrada, e a quantidade de linhas fica desconhecida.
+ * </p>
+ *
+ * <p>
+ * Assim como {@link MetricasMyBatisInterceptor}, a medição é feita no {@link StatementHandler},
+ * de modo que o SQL registrado é o efetivamente enviado ao banco (com a paginação do PageHelper).
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "query",
+                args = {Statement.class, ResultHandler.class}),
+        @Signature(type = StatementHandler.class, method = "queryCursor",
+                args = {Statement.class}),
+        @Signature(type = StatementHandler.class, method = "update", args = {Statement.class})})
+public class ConsultaLentaInterceptor implements Interceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsultaLentaInterceptor.class);
+
+    /**
+     * Tamanho máximo de cada valor de parâmetro registrado.
+     */
+    private static final int TAMANHO_MAXIMO_PARAMETRO = 200;
+
+    private final long limiteNanos;
+    private final double amostragem;
+    private final AtomicReferenceArray<ConsultaLentaDTO> buffer;
+    private final LongSupplier relogio;
+    private final AtomicLong registradas = new AtomicLong();
+
+    /**
+     * @param limiteMs duração a partir da qual o comando é considerado lento
+     * @param amostragem fração das consultas lentas que são registradas (0 a 1)
+     * @param capacidade quantidade de consultas lentas mantidas em memória
+     * @throws IllegalArgumentException se a capacidade for menor que 1
+     */
+    public ConsultaLentaInterceptor(long limiteMs, double amostragem, int capacidade) {
+        this(limiteMs, amostragem, capacidade, System::nanoTime);
+    }
+
+    /**
+     * @param limiteMs duração a partir da qual o comando é considerado lento
+     * @param amostragem fração das consultas lentas que são registradas (0 a 1)
+     * @param capacidade quantidade de consultas lentas mantidas em memória
+     * @param relogio fonte do tempo em nanossegundos usada na cronometragem
+     * @throws IllegalArgumentException se a capacidade for menor que 1
+     */
+    public ConsultaLentaInterceptor(long limiteMs, double amostragem, int capacidade,
+            LongSupplier relogio) {
+        if (capacidade < 1) {
+            throw new IllegalArgumentException(
+                    "Capacidade de consultas lentas deve ser ao menos 1: " + capacidade);
+        }
+        this.limiteNanos = TimeUnit.MILLISECONDS.toNanos(limiteMs);
+        this.amostragem = amostragem;
+        this.buffer = new AtomicReferenceArray<>(capacidade);
+        this.relogio = relogio;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        long inicio = relogio.getAsLong();
+        Object resultado = null;
+        Throwable erro = null;
+        try {
+            resultado = invocation.proceed();
+            return resultado;
+        } catch (Throwable e) {
+            erro = e;
+            throw e;
+        } finally {
+            long duracao = relogio.getAsLong() - inicio;
+            if (duracao >= limiteNanos && (amostragem >= 1
+                    || ThreadLocalRandom.current().nextDouble() < amostragem)) {
+                registrar((StatementHandler) invocation.getTarget(), resultado, erro, duracao);
+            }
+        }
+    }
+
+    /**
+     * Lista as consultas lentas registradas, da mais recente para a mais antiga.
+     *
+     * @return consultas lentas em memória
+     */
+    public List<ConsultaLentaDTO> listar() {
+        long ultima = registradas.get();
+        int capacidade = buffer.length();
+        List<ConsultaLentaDTO> consultas = new ArrayList<>(capacidade);
+        for (long i = ultima - 1; i >= 0 && i >= ultima - capacidade; i--) {
+            ConsultaLentaDTO consulta = buffer.get((int) (i % capacidade));
+            if (consulta != null) {
+                consultas.add(consulta);
+            }
+        }
+        return consultas;
+    }
+
+    private void registrar(StatementHandler handler, Object resultado, Throwable erro,
+            long duracao) {
+        MappedStatement comando = MetricasMyBatisInterceptor.comando(handler);
+        BoundSql boundSql = handler.getBoundSql();
+        ConsultaLentaDTO consulta = new ConsultaLentaDTO(
+                comando != null ? comando.getId() : "desconhecido",
+                boundSql.getSql().replaceAll("\\s+", " ").trim(),
+                comando != null ? parametros(comando.getConfiguration(), boundSql) : List.of(),
+                linhas(resultado), TimeUnit.NANOSECONDS.toMillis(duracao), LocalDateTime.now(),
+                erro != null ? descrever(erro) : null);
+
+        if (consulta.getErro() == null) {
+            log.warn("Consulta lenta ({} ms, {} linhas) {}: {} parametros={}",
+                    consulta.getDuracaoMs(), consulta.getLinhas(), consulta.getStatement(),
+                    consulta.getSql(), consulta.getParametros());
+        } else {
+            log.warn("Consulta lenta com falha ({} ms) {}: {} parametros={} erro={}",
+                    consulta.getDuracaoMs(), consulta.getStatement(), consulta.getSql(),
+                    consulta.getParametros(), consulta.getErro());
+        }
+
+        long posicao = registradas.getAndIncrement();
+        buffer.set((int) (posicao % buffer.length()), consulta);
+    }
+
+    /**
+     * Resolve os valores dos parâmetros da mesma forma que o {@code DefaultParameterHandler}.
+     */
+    private static List<String> parametros(Configuration configuration, BoundSql boundSql) {
+        Object parametro = boundSql.getParameterObject();
+        List<String> valores = new ArrayList<>();
+        for (ParameterMapping mapeamento : boundSql.getParameterMappings()) {
+            if (mapeamento.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String propriedade = mapeamento.getProperty();
+            Object valor;
+            if (boundSql.hasAdditionalParameter(propriedade)) {
+                valor = boundSql.getAdditionalParameter(propriedade);
+            } else if (parametro == null) {
+                valor = null;
+            } else if (configuration.getTypeHandlerRegistry()
+                    .hasTypeHandler(parametro.getClass())) {
+                valor = parametro;
+            } else {
+                valor = configuration.newMetaObject(parametro).getValue(propriedade);
+            }
+            valores.add(formatar(valor));
+        }
+        return valores;
+    }
+
+    private static String formatar(Object valor) {
+        if (valor == null) {
+            return "null";
+        }
+        String texto = valor.toString();
+        return texto.length() > TAMANHO_MAXIMO_PARAMETRO
+                ? texto.substring(0, TAMANHO_MAXIMO_PARAMETRO) + "..."
+                : texto;
+    }
+
+    /**
+     * Descreve o erro original do comando, sem o {@code InvocationTargetException} da chamada
+     * refletida.
+     */
+    private static String descrever(Throwable erro) {
+        Throwable causa = ExceptionUtil.unwrapThrowable(erro);
+        return causa.getClass().getSimpleName()
+                + (causa.getMessage() != null ? ": " + causa.getMessage() : "");
+    }
+
+    private static int linhas(Object resultado) {
+        if (resultado instanceof Collection<?> colecao) {
+            return colecao.size();
+        }
+        if (resultado instanceof Integer alteradas) {
+            return alteradas;
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.crudlandia.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor usado pela contagem paralela das listagens ({@code contagem = PARALELA}).
+ *
+ * <p>
+ * O pool é pequeno e com fila limitada para que contagens lentas não consumam todas as conexões
+ * do banco: cada thread ocupa uma conexão enquanto conta. Quando pool e fila estão cheios, a
+ * tarefa é rejeitada e a listagem responde sem o total.
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Configuration
+public class ContagemParalelaConfig {
+
+    @Bean(name = "contagemExecutor")
+    public ThreadPoolTaskExecutor contagemExecutor(
+            @Value("${app.listagem.contagem-paralela.threads:5}") int threads,
+            @Value("${app.listagem.contagem-paralela.fila:50}") int fila) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(fila);
+        executor.setThreadNamePrefix("contagem-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.crudlandia.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Conversores das codificações binárias CBOR ({@code application/cbor}) e Smile
+ * ({@code application/x-jackson-smile}).
+ *
+ * <p>
+ * Com eles, requisições e respostas dos controllers podem usar essas codificações em vez de JSON,
+ * conforme os cabeçalhos {@code Content-Type} e {@code Accept}; JSON continua sendo o padrão. Os
+ * mapeadores são criados pelo {@link Jackson2ObjectMapperBuilder} do Spring Boot, para que as
+ * propriedades {@code spring.jackson.*} e os módulos valham também para os formatos binários (sem
+ * isso, o Spring MVC registraria conversores com a configuração padrão do Jackson).
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Configuration
+public class FormatosBinariosConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                builder.factory(new SmileFactory()).build());
+    }
+
+}
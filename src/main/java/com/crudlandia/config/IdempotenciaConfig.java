@@ -0,0 +1,59 @@
+package com.crudlandia.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Chaves de idempotência ({@code Idempotency-Key}) nos endpoints de escrita de exemplos.
+ *
+ * <p>
+ * O filtro ({@link IdempotenciaFilter}) é registrado apenas nos endereços de escrita do
+ * {@code CadastroExemploController}; as consultas, inclusive as feitas por POST, não passam por
+ * ele. As respostas ficam em memória ({@code app.idempotencia.armazenamento=memoria}, padrão) ou
+ * na tabela {@code idempotencia} ({@code app.idempotencia.armazenamento=jdbc}), necessária quando
+ * há mais de uma instância da aplicação.
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Configuration
+public class IdempotenciaConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.idempotencia.armazenamento", havingValue = "memoria",
+            matchIfMissing = true)
+    public ArmazenamentoIdempotencia armazenamentoIdempotenciaMemoria(
+            @Value("${app.idempotencia.tamanho-maximo-bytes:67108864}") long tamanhoMaximoBytes,
+            @Value("${app.idempotencia.ttl-segundos:86400}") long ttlSegundos) {
+        return new ArmazenamentoIdempotenciaMemoria(tamanhoMaximoBytes, ttlSegundos);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.idempotencia.armazenamento", havingValue = "jdbc")
+    public ArmazenamentoIdempotencia armazenamentoIdempotenciaJdbc(JdbcTemplate jdbcTemplate,
+            @Value("${app.idempotencia.ttl-segundos:86400}") long ttlSegundos,
+            @Value("${app.idempotencia.jdbc.intervalo-limpeza-ms:60000}") long intervaloLimpezaMs) {
+        return new ArmazenamentoIdempotenciaJdbc(jdbcTemplate, ttlSegundos, intervaloLimpezaMs);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotenciaFilter> idempotenciaFilter(
+            ArmazenamentoIdempotencia armazenamento,
+            @Value("${app.idempotencia.espera-ms:30000}") long esperaMs) {
+        FilterRegistrationBean<IdempotenciaFilter> registro =
+                new FilterRegistrationBean<>(new IdempotenciaFilter(armazenamento, esperaMs));
+        registro.addUrlPatterns("/cadastro/exemplo/criar", "/cadastro/exemplo/criarLote",
+                "/cadastro/exemplo/criarAssincrono", "/cadastro/exemplo/atualizar/*",
+                "/cadastro/exemplo/atualizarVersionado/*", "/cadastro/exemplo/deletar/*",
+                "/cadastro/exemplo/deletarLote", "/cadastro/exemplo/desativar/*",
+                "/cadastro/exemplo/desativarLote");
+        return registro;
+    }
+
+}
@@ -0,0 +1,282 @@
+package com.crudlandia.config;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Torna idempotentes as requisições de escrita que informam o cabeçalho {@code Idempotency-Key}.
+ *
+ * <p>
+ * A primeira requisição com uma chave é executada normalmente e sua resposta (status, corpo,
+ * {@code ETag} e {@code Location}) é armazenada; as requisições seguintes com a mesma chave, no
+ * mesmo método e endereço, recebem a resposta armazenada, com o cabeçalho
+ * {@code Idempotent-Replayed: true}, sem chegar ao controller. Assim a repetição de um
+ * {@code criar} após um timeout devolve o exemplo criado, em vez de um erro de nome duplicado ou
+ * de um segundo exemplo.
+ * </p>
+ *
+ * <p>
+ * Respostas de erro do cliente (4xx) também são repetidas, pois o resultado não muda ao repetir a
+ * mesma requisição; já os erros do servidor (5xx) e o 429 não são armazenados, e a repetição é
+ * executada de novo. Requisições simultâneas com a mesma chave aguardam a que está em andamento
+ * nesta instância e recebem a mesma resposta; se ela demorar mais que o tempo de espera, a
+ * requisição recebe 409. Essa espera vale apenas dentro de uma instância, mesmo com o
+ * armazenamento JDBC: requisições simultâneas com a mesma chave em instâncias diferentes podem
+ * ser executadas ambas, e só a primeira resposta gravada é repetida depois.
+ * </p>
+ *
+ * <p>
+ * A resposta é guardada com a impressão (SHA-256) do corpo da requisição. Uma chave reutilizada
+ * com outro corpo é um erro do cliente e recebe 422, em vez da resposta de outra operação.
+ * </p>
+ *
+ * <p>
+ * Requisições sem o cabeçalho não são afetadas.
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class IdempotenciaFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotenciaFilter.class);
+
+    public static final String CABECALHO_CHAVE = "Idempotency-Key";
+
+    public static final String CABECALHO_REPETIDA = "Idempotent-Replayed";
+
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    private final ArmazenamentoIdempotencia armazenamento;
+    private final long esperaMs;
+    private final ConcurrentMap<String, CompletableFuture<RespostaIdempotente>> emAndamento =
+            new ConcurrentHashMap<>();
+
+    /**
+     * @param armazenamento onde as respostas são guardadas
+     * @param esperaMs tempo máximo de espera pela requisição em andamento com a mesma chave
+     */
+    public IdempotenciaFilter(ArmazenamentoIdempotencia armazenamento, long esperaMs) {
+        this.armazenamento = armazenamento;
+        this.esperaMs = esperaMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        String chaveCliente = request.getHeader(CABECALHO_CHAVE);
+        if (chaveCliente == null || chaveCliente.isBlank()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (chaveCliente.length() > TAMANHO_MAXIMO_CHAVE) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(),
+                    CABECALHO_CHAVE + " com mais de " + TAMANHO_MAXIMO_CHAVE + " caracteres");
+            return;
+        }
+        String chave = request.getMethod() + " " + request.getRequestURI() + " " + chaveCliente;
+        // O corpo é lido antes da execução, para a impressão, e entregue de novo ao controller
+        byte[] corpo = StreamUtils.copyToByteArray(request.getInputStream());
+        String impressao = impressao(corpo);
+        HttpServletRequest requisicao = new RequisicaoComCorpo(request, corpo);
+
+        while (true) {
+            RespostaIdempotente armazenada = armazenamento.buscar(chave);
+            if (armazenada != null) {
+                repetir(armazenada, impressao, response);
+                return;
+            }
+
+            CompletableFuture<RespostaIdempotente> execucao = new CompletableFuture<>();
+            CompletableFuture<RespostaIdempotente> existente =
+                    emAndamento.putIfAbsent(chave, execucao);
+            if (existente == null) {
+                // A requisição anterior pode ter concluído entre a busca e o registro
+                armazenada = armazenamento.buscar(chave);
+                if (armazenada != null) {
+                    execucao.complete(armazenada);
+                    emAndamento.remove(chave, execucao);
+                    repetir(armazenada, impressao, response);
+                    return;
+                }
+                executar(chave, impressao, execucao, requisicao, response, filterChain);
+                return;
+            }
+
+            try {
+                RespostaIdempotente resposta = existente.get(esperaMs, TimeUnit.MILLISECONDS);
+                if (resposta != null) {
+                    repetir(resposta, impressao, response);
+                    return;
+                }
+                // A requisição em andamento não gerou resposta repetível: executa esta
+            } catch (TimeoutException e) {
+                response.sendError(HttpStatus.CONFLICT.value(),
+                        "Requisicao com a mesma " + CABECALHO_CHAVE + " em andamento");
+                return;
+            } catch (ExecutionException e) {
+                // Não ocorre: a execução é sempre concluída com a resposta ou null
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+                return;
+            }
+        }
+    }
+
+    private void executar(String chave, String impressao,
+            CompletableFuture<RespostaIdempotente> execucao, HttpServletRequest request,
+            HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper respostaEmCache = new ContentCachingResponseWrapper(response);
+        RespostaIdempotente resposta = null;
+        try {
+            filterChain.doFilter(request, respostaEmCache);
+            if (repetivel(respostaEmCache.getStatus())) {
+                resposta = new RespostaIdempotente(respostaEmCache.getStatus(),
+                        respostaEmCache.getContentType(),
+                        respostaEmCache.getHeader(HttpHeaders.ETAG),
+                        respostaEmCache.getHeader(HttpHeaders.LOCATION),
+                        respostaEmCache.getContentAsByteArray(), impressao);
+                armazenar(chave, resposta);
+            }
+        } finally {
+            execucao.complete(resposta);
+            emAndamento.remove(chave, execucao);
+            respostaEmCache.copyBodyToResponse();
+        }
+    }
+
+    private void armazenar(String chave, RespostaIdempotente resposta) {
+        try {
+            armazenamento.salvar(chave, resposta);
+        } catch (RuntimeException e) {
+            // A requisição já foi executada: a resposta é devolvida, apenas não será repetida
+            log.warn("Nao foi possivel armazenar a resposta da chave de idempotencia: {}",
+                    e.getMessage());
+        }
+    }
+
+    private static boolean repetivel(int status) {
+        return status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    /**
+     * Repete a resposta armazenada, ou responde 422 se ela foi gerada por outro corpo.
+     */
+    private static void repetir(RespostaIdempotente resposta, String impressao,
+            HttpServletResponse response) throws IOException {
+        if (!impressao.equals(resposta.impressao())) {
+            response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                    CABECALHO_CHAVE + " reutilizada com outro corpo de requisicao");
+            return;
+        }
+        response.setStatus(resposta.status());
+        if (resposta.contentType() != null) {
+            response.setContentType(resposta.contentType());
+        }
+        if (resposta.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, resposta.etag());
+        }
+        if (resposta.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, resposta.location());
+        }
+        response.setHeader(CABECALHO_REPETIDA, "true");
+        response.setContentLength(resposta.corpo().length);
+        response.getOutputStream().write(resposta.corpo());
+    }
+
+    private static String impressao(byte[] corpo) {
+        try {
+            return Base64.getEncoder()
+                    .encodeToString(MessageDigest.getInstance("SHA-256").digest(corpo));
+        } catch (NoSuchAlgorithmException e) {
+            // Todo JRE implementa SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Requisição cujo corpo já foi lido pelo filtro e é lido de novo a partir da memória.
+     */
+    private static final class RequisicaoComCorpo extends HttpServletRequestWrapper {
+
+        private final byte[] corpo;
+
+        RequisicaoComCorpo(HttpServletRequest request, byte[] corpo) {
+            super(request);
+            this.corpo = corpo;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream entrada = new ByteArrayInputStream(corpo);
+            return new ServletInputStream() {
+
+                @Override
+                public int read() {
+                    return entrada.read();
+                }
+
+                @Override
+                public int read(byte[] destino, int inicio, int tamanho) {
+                    return entrada.read(destino, inicio, tamanho);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return entrada.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null
+                    ? Charset.forName(getCharacterEncoding())
+                    : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+}
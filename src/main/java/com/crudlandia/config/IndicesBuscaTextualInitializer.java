@@ -0,0 +1,172 @@
+package com.crudlandia.config;
+
+import java.sql.Statement;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cria os índices usados pela busca por trecho de nome e descrição de Exemplos.
+ *
+ * <p>
+ * Os filtros {@code like '%texto%'} da listagem não podem usar um índice B-tree, pois o padrão
+ * começa com curinga. No PostgreSQL eles são atendidos por índices GIN de trigramas
+ * ({@code pg_trgm}), que não podem ser declarados pelas anotações JPA e por isso são criados aqui,
+ * na inicialização, após o schema ter sido gerado pelo Hibernate. Os comandos são idempotentes.
+ * </p>
+ *
+ * <p>
+ * Os índices são criados com {@code create index concurrently}, que não bloqueia as escritas na
+ * tabela durante a criação e por isso não pode ser executado dentro de uma transação: cada
+ * comando é executado em uma conexão em modo autocommit. Se uma criação anterior foi interrompida,
+ * o índice inválido que ela deixou é removido e criado de novo. Se a extensão {@code pg_trgm} não
+ * estiver disponível (ou não houver permissão para criá-la), os índices não são criados e a
+ * inicialização prossegue normalmente.
+ * </p>
+ *
+ * <p>
+ * Nos demais bancos (H2 em desenvolvimento e testes) nada é criado: a mesma consulta continua
+ * funcionando, apenas por varredura.
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class IndicesBuscaTextualInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(IndicesBuscaTextualInitializer.class);
+
+    /**
+     * Comando que cria a extensão de trigramas no PostgreSQL.
+     */
+    public static final String CRIAR_EXTENSAO = "create extension if not exists pg_trgm";
+
+    /**
+     * Colunas de {@code exemplos} que recebem um índice de trigramas.
+     */
+    public static final List<String> COLUNAS_INDEXADAS = List.of("nome", "descricao");
+
+    private static final String EXTENSAO_INSTALADA =
+            "select count(*) from pg_extension where extname = 'pg_trgm'";
+
+    private static final String INDICE_INVALIDO = "select count(*) from pg_index i"
+            + " join pg_class c on c.oid = i.indexrelid where c.relname = ? and not i.indisvalid";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.busca.indices-trigramas.habilitado:true}")
+    private boolean habilitado;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!habilitado || !isPostgreSQL()) {
+            return;
+        }
+        if (!extensaoDisponivel()) {
+            return;
+        }
+        for (String coluna : COLUNAS_INDEXADAS) {
+            try {
+                criarIndice(coluna);
+            } catch (DataAccessException ex) {
+                log.warn("Nao foi possivel criar o indice {}: {}", nomeIndice(coluna),
+                        ex.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    /**
+     * Nome do índice de trigramas da coluna.
+     *
+     * @param coluna coluna de {@code exemplos}
+     * @return nome do índice
+     */
+    public static String nomeIndice(String coluna) {
+        return "idx_exemplos_" + coluna + "_trgm";
+    }
+
+    /**
+     * Comando que cria o índice de trigramas da coluna, sem bloquear as escritas na tabela. Deve
+     * ser executado fora de transação.
+     *
+     * @param coluna coluna de {@code exemplos}
+     * @return comando de criação do índice
+     */
+    public static String comandoCriarIndice(String coluna) {
+        return "create index concurrently if not exists " + nomeIndice(coluna)
+                + " on exemplos using gin (" + coluna + " gin_trgm_ops)";
+    }
+
+    /**
+     * Cria a extensão {@code pg_trgm}, se possível, e verifica se ela está instalada.
+     */
+    private boolean extensaoDisponivel() {
+        try {
+            jdbcTemplate.execute(CRIAR_EXTENSAO);
+        } catch (DataAccessException ex) {
+            // Sem permissão para criar a extensão ela ainda pode ter sido instalada pelo DBA
+            log.debug("Nao foi possivel criar a extensao pg_trgm: {}",
+                    ex.getMostSpecificCause().getMessage());
+        }
+        try {
+            Long instalada = jdbcTemplate.queryForObject(EXTENSAO_INSTALADA, Long.class);
+            if (instalada != null && instalada > 0) {
+                return true;
+            }
+            log.warn("Extensao pg_trgm indisponivel: indices de trigramas de exemplos nao criados,"
+                    + " a busca por trecho sera feita por varredura");
+        } catch (DataAccessException ex) {
+            log.warn("Nao foi possivel verificar a extensao pg_trgm: {}",
+                    ex.getMostSpecificCause().getMessage());
+        }
+        return false;
+    }
+
+    private void criarIndice(String coluna) {
+        String nome = nomeIndice(coluna);
+        Long invalido = jdbcTemplate.queryForObject(INDICE_INVALIDO, Long.class, nome);
+        if (invalido != null && invalido > 0) {
+            // Resto de um create index concurrently interrompido, ignorado pelo "if not exists"
+            log.warn("Recriando o indice invalido {}", nome);
+            executarSemTransacao("drop index concurrently if exists " + nome);
+        }
+        executarSemTransacao(comandoCriarIndice(coluna));
+    }
+
+    private void executarSemTransacao(String comando) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) conexao -> {
+            boolean autoCommit = conexao.getAutoCommit();
+            conexao.setAutoCommit(true);
+            try (Statement st = conexao.createStatement()) {
+                st.execute(comando);
+            } finally {
+                conexao.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+    }
+
+    private boolean isPostgreSQL() {
+        try {
+            String produto = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    metaData -> metaData.getDatabaseProductName());
+            return "PostgreSQL".equals(produto);
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+}
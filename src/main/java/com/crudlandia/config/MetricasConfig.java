@@ -0,0 +1,37 @@
+package com.crudlandia.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Métricas da aplicação (Micrometer), publicadas em {@code /actuator/prometheus}.
+ *
+ * <p>
+ * As métricas de requisições HTTP ({@code http.server.requests}), de chamadas aos repositórios
+ * Spring Data ({@code spring.data.repository.invocations}), do pool Hikari ({@code hikaricp.*}) e
+ * as estatísticas do Hibernate ({@code hibernate.*}) são registradas pelo Spring Boot. Aqui são
+ * registrados o aspecto que mede os métodos anotados com {@code @Timed} (serviços) e o interceptor
+ * que mede os comandos MyBatis.
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MetricasMyBatisInterceptor metricasMyBatisInterceptor(MeterRegistry registry) {
+        return new MetricasMyBatisInterceptor(registry);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.crudlandia.config;
+
+import java.sql.Statement;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ResultHandler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Interceptor MyBatis que mede o tempo de cada comando SQL no timer {@code mybatis.statement}.
+ *
+ * <p>
+ * O timer é identificado pelo comando ({@code statement}, ex.:
+ * {@code com.crudlandia.mappers.ExemploMapper.listagemExemplo}), pelo tipo (SELECT, UPDATE...) e
+ * pelo resultado ({@code outcome}: SUCCESS ou a classe da exceção), com histograma de
+ * percentis. A medição é feita no {@link StatementHandler}, e não no Executor, para que a ordem
+ * em relação ao interceptor do PageHelper não importe: a contagem gerada pelo PageHelper
+ * aparece como um comando próprio ({@code listagemExemplo_COUNT}). O tempo inclui a execução e o
+ * mapeamento do resultado; nas consultas que devolvem um {@code Cursor}, inclui apenas a execução,
+ * pois as linhas são mapeadas depois, à medida que o cursor é percorrido.
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "query",
+                args = {Statement.class, ResultHandler.class}),
+        @Signature(type = StatementHandler.class, method = "queryCursor",
+                args = {Statement.class}),
+        @Signature(type = StatementHandler.class, method = "update", args = {Statement.class})})
+public class MetricasMyBatisInterceptor implements Interceptor {
+
+    static final String METRICA = "mybatis.statement";
+
+    private final MeterRegistry registry;
+
+    public MetricasMyBatisInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement comando = comando(invocation.getTarget());
+        Timer.Sample amostra = Timer.start(registry);
+        String resultado = "SUCCESS";
+        try {
+            return invocation.proceed();
+        } catch (Throwable ex) {
+            resultado = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            amostra.stop(Timer.builder(METRICA)
+                    .description("Tempo de execução dos comandos MyBatis")
+                    .tag("statement", comando != null ? comando.getId() : "desconhecido")
+                    .tag("type", comando != null ? comando.getSqlCommandType().name() : "UNKNOWN")
+                    .tag("outcome", resultado)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    /**
+     * Obtém o comando mapeado do {@code RoutingStatementHandler}, desfazendo proxies de outros
+     * plugins, se houver.
+     */
+    static MappedStatement comando(Object handler) {
+        MetaObject meta = SystemMetaObject.forObject(handler);
+        while (meta.hasGetter("h")) {
+            meta = SystemMetaObject.forObject(meta.getValue("h.target"));
+        }
+        if (meta.hasGetter("delegate.mappedStatement")) {
+            return (MappedStatement) meta.getValue("delegate.mappedStatement");
+        }
+        if (meta.hasGetter("mappedStatement")) {
+            return (MappedStatement) meta.getValue("mappedStatement");
+        }
+        return null;
+    }
+
+}
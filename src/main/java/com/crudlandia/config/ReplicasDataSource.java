@@ -0,0 +1,179 @@
+package com.crudlandia.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * DataSource das leituras: distribui as conexões entre as réplicas saudáveis, em rodízio.
+ *
+ * <p>
+ * O rodízio considera apenas as réplicas saudáveis, para que uma réplica indisponível não
+ * transfira toda a sua parte das leituras para a réplica seguinte.
+ * </p>
+ *
+ * <p>
+ * Cada réplica é verificada periodicamente ({@code Connection.isValid}); uma réplica que falha na
+ * verificação ou ao fornecer uma conexão deixa de ser usada até a próxima verificação bem
+ * sucedida, e a conexão é pedida à próxima réplica. Sem nenhuma réplica saudável, as leituras
+ * usam o banco principal.
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ReplicasDataSource extends AbstractDataSource implements InitializingBean,
+        DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicasDataSource.class);
+
+    private final List<Replica> replicas;
+    private final DataSource principal;
+    private final long intervaloVerificacaoMs;
+    private final int timeoutVerificacaoSegundos;
+    private final AtomicInteger proxima = new AtomicInteger();
+    private ScheduledExecutorService verificador;
+
+    /**
+     * @param replicas réplicas de leitura, por nome
+     * @param principal banco principal, usado quando não há réplica saudável
+     * @param intervaloVerificacaoMs intervalo entre as verificações de saúde
+     * @param timeoutVerificacaoSegundos tempo máximo de cada verificação
+     */
+    public ReplicasDataSource(List<Replica> replicas, DataSource principal,
+            long intervaloVerificacaoMs, int timeoutVerificacaoSegundos) {
+        this.replicas = List.copyOf(replicas);
+        this.principal = principal;
+        this.intervaloVerificacaoMs = intervaloVerificacaoMs;
+        this.timeoutVerificacaoSegundos = timeoutVerificacaoSegundos;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        verificar();
+        verificador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "verificacao-replicas");
+            thread.setDaemon(true);
+            return thread;
+        });
+        verificador.scheduleWithFixedDelay(this::verificar, intervaloVerificacaoMs,
+                intervaloVerificacaoMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (verificador != null) {
+            verificador.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return conectar(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return conectar(username, password);
+    }
+
+    /**
+     * Nomes das réplicas consideradas saudáveis no momento.
+     */
+    public List<String> getReplicasSaudaveis() {
+        return replicas.stream().filter(Replica::isSaudavel).map(Replica::getNome).toList();
+    }
+
+    /**
+     * Verifica a saúde de todas as réplicas.
+     */
+    public void verificar() {
+        for (Replica replica : replicas) {
+            boolean saudavel;
+            try (Connection conexao = replica.getDataSource().getConnection()) {
+                saudavel = conexao.isValid(timeoutVerificacaoSegundos);
+            } catch (SQLException | RuntimeException ex) {
+                saudavel = false;
+            }
+            atualizar(replica, saudavel);
+        }
+    }
+
+    private Connection conectar(String username, String password) throws SQLException {
+        List<Replica> saudaveis = replicas.stream().filter(Replica::isSaudavel).toList();
+        int quantidade = saudaveis.size();
+        int inicio = quantidade == 0 ? 0 : Math.floorMod(proxima.getAndIncrement(), quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Replica replica = saudaveis.get((inicio + i) % quantidade);
+            try {
+                return username == null ? replica.getDataSource().getConnection()
+                        : replica.getDataSource().getConnection(username, password);
+            } catch (SQLException | RuntimeException ex) {
+                atualizar(replica, false);
+            }
+        }
+        return username == null ? principal.getConnection()
+                : principal.getConnection(username, password);
+    }
+
+    private static void atualizar(Replica replica, boolean saudavel) {
+        if (replica.isSaudavel() != saudavel) {
+            if (saudavel) {
+                log.info("Replica de leitura {} disponivel", replica.getNome());
+            } else {
+                log.warn("Replica de leitura {} indisponivel", replica.getNome());
+            }
+        }
+        replica.setSaudavel(saudavel);
+    }
+
+    /**
+     * Réplica de leitura e seu estado de saúde.
+     */
+    public static final class Replica {
+
+        private final String nome;
+        private final DataSource dataSource;
+        private volatile boolean saudavel = true;
+
+        public Replica(String nome, DataSource dataSource) {
+            this.nome = nome;
+            this.dataSource = dataSource;
+        }
+
+        public String getNome() {
+            return nome;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        boolean isSaudavel() {
+            return saudavel;
+        }
+
+        void setSaudavel(boolean saudavel) {
+            this.saudavel = saudavel;
+        }
+    }
+
+}
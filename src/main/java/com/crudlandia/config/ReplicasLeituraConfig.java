@@ -0,0 +1,103 @@
+package com.crudlandia.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Roteamento das leituras para réplicas do banco.
+ *
+ * <p>
+ * Ativado por {@code app.datasource.replicas.habilitado=true}. O DataSource da aplicação passa a
+ * ser um {@link LazyConnectionDataSourceProxy} sobre o banco principal
+ * ({@code spring.datasource.*}), com as réplicas como DataSource somente leitura: em transações
+ * {@code @Transactional(readOnly = true)} (a busca por id e a versão de exemplos, e todas as
+ * consultas MyBatis da listagem) a conexão é marcada como somente leitura antes do primeiro
+ * comando, e por isso é obtida de uma réplica ({@link ReplicasDataSource}); as demais usam o
+ * banco principal. Nessas transações o Spring também coloca a sessão do Hibernate em modo somente
+ * leitura (sem cópias para dirty checking) e com flush manual.
+ * </p>
+ *
+ * <p>
+ * O proxy é necessário porque o gerenciador de transações obtém a conexão antes de publicar que a
+ * transação é somente leitura. As leituras nas réplicas podem estar atrasadas em relação às
+ * escritas recentes no banco principal.
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "habilitado",
+        havingValue = "true")
+@EnableConfigurationProperties(ReplicasLeituraProperties.class)
+public class ReplicasLeituraConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource principalDataSource(DataSourceProperties propriedades) {
+        return propriedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicasDataSource replicasDataSource(ReplicasLeituraProperties replicas,
+            DataSourceProperties principal,
+            @Qualifier("principalDataSource") DataSource principalDataSource,
+            ObjectProvider<MeterRegistry> registry) {
+        List<ReplicasDataSource.Replica> fontes = new ArrayList<>();
+        for (int i = 0; i < replicas.getFontes().size(); i++) {
+            ReplicasLeituraProperties.Fonte fonte = replicas.getFontes().get(i);
+            String nome = "replica-" + (i + 1);
+
+            // Pool criado na primeira conexão e sem falha na inicialização: uma réplica fora do
+            // ar não impede a aplicação de subir, apenas fica marcada como indisponível
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(nome);
+            pool.setJdbcUrl(fonte.getUrl());
+            pool.setUsername(fonte.getUsername() != null ? fonte.getUsername()
+                    : principal.determineUsername());
+            pool.setPassword(fonte.getPassword() != null ? fonte.getPassword()
+                    : principal.determinePassword());
+            pool.setMaximumPoolSize(fonte.getTamanhoPool());
+            pool.setConnectionTimeout(fonte.getTimeoutConexaoMs());
+            pool.setInitializationFailTimeout(-1);
+            pool.setReadOnly(true);
+            registry.ifAvailable(
+                    meterRegistry -> pool.setMetricsTrackerFactory(
+                            new MicrometerMetricsTrackerFactory(meterRegistry)));
+            fontes.add(new ReplicasDataSource.Replica(nome, pool));
+        }
+        return new ReplicasDataSource(fontes, principalDataSource,
+                replicas.getIntervaloVerificacaoMs(), replicas.getTimeoutVerificacaoSegundos());
+    }
+
+    @Bean
+    @Primary
+    public LazyConnectionDataSourceProxy dataSource(
+            @Qualifier("principalDataSource") DataSource principalDataSource,
+            ReplicasDataSource replicasDataSource) {
+        LazyConnectionDataSourceProxy dataSource =
+                new LazyConnectionDataSourceProxy(principalDataSource);
+        dataSource.setReadOnlyDataSource(replicasDataSource);
+        return dataSource;
+    }
+
+}
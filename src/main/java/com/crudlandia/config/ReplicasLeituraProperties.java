@@ -0,0 +1,69 @@
+package com.crudlandia.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Réplicas de leitura do banco ({@code app.datasource.replicas.*}).
+ *
+ * <p>
+ * Exemplo com duas réplicas:
+ * </p>
+ *
+ * <pre>
+ * app.datasource.replicas.habilitado=true
+ * app.datasource.replicas.fontes[0].url=jdbc:postgresql://replica1:5432/crudlandia
+ * app.datasource.replicas.fontes[1].url=jdbc:postgresql://replica2:5432/crudlandia
+ * </pre>
+ *
+ * <p>
+ * Usuário e senha não informados são os do banco principal ({@code spring.datasource.*}).
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@ConfigurationProperties("app.datasource.replicas")
+public class ReplicasLeituraProperties {
+
+    private boolean habilitado;
+
+    private List<Fonte> fontes = new ArrayList<>();
+
+    /**
+     * Intervalo entre as verificações de saúde das réplicas.
+     */
+    private long intervaloVerificacaoMs = 5000;
+
+    /**
+     * Tempo máximo de cada verificação de saúde ({@code Connection.isValid}).
+     */
+    private int timeoutVerificacaoSegundos = 2;
+
+    @Getter
+    @Setter
+    public static class Fonte {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int tamanhoPool = 10;
+
+        /**
+         * Tempo máximo de espera por uma conexão da réplica antes de tentar a próxima.
+         */
+        private long timeoutConexaoMs = 1000;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.crudlandia.config;
+
+import java.io.Serializable;
+
+/**
+ * Resposta armazenada para uma chave de idempotência, repetida nas requisições seguintes com a
+ * mesma chave.
+ *
+ * @param status status HTTP
+ * @param contentType tipo do corpo, ou null se não houver corpo
+ * @param etag cabeçalho {@code ETag}, ou null
+ * @param location cabeçalho {@code Location}, ou null
+ * @param corpo corpo da resposta (vazio se não houver)
+ * @param impressao SHA-256 (Base64) do corpo da requisição que gerou a resposta
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record RespostaIdempotente(int status, String contentType, String etag, String location,
+        byte[] corpo, String impressao) implements Serializable {
+}
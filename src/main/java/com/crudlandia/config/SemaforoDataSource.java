@@ -0,0 +1,117 @@
+package com.crudlandia.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource que limita por semáforo quantas conexões podem estar em uso ao mesmo tempo.
+ *
+ * <p>
+ * Usado no modo de threads virtuais: com uma thread por requisição, milhares de threads podem
+ * pedir conexão ao mesmo tempo. Com o semáforo (justo e com uma permissão por conexão do pool),
+ * as threads excedentes aguardam em fila, desmontadas da thread carregadora, e só chegam ao pool
+ * quando há conexão livre. A permissão é devolvida no {@link Connection#close()}.
+ * </p>
+ *
+ * <p>
+ * Se a permissão não for obtida dentro do timeout, é lançada
+ * {@link SQLTransientConnectionException}, como faria o próprio pool.
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class SemaforoDataSource extends DelegatingDataSource {
+
+    private final Semaphore semaforo;
+    private final long timeoutMs;
+
+    public SemaforoDataSource(DataSource dataSource, int permissoes, long timeoutMs) {
+        super(dataSource);
+        this.semaforo = new Semaphore(permissoes, true);
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(super.getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            semaforo.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            semaforo.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Quantidade de permissões livres no momento.
+     */
+    public int getPermissoesDisponiveis() {
+        return semaforo.availablePermits();
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!semaforo.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Conexao nao disponivel apos " + timeoutMs + "ms");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Espera por conexao interrompida", ex);
+        }
+    }
+
+    private Connection liberarAoFechar(Connection conexao) {
+        AtomicBoolean liberada = new AtomicBoolean();
+        InvocationHandler handler = (proxy, method, args) -> invocar(proxy, conexao, liberada,
+                method, args);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, handler);
+    }
+
+    private Object invocar(Object proxy, Connection conexao, AtomicBoolean liberada,
+            Method method, Object[] args) throws Throwable {
+        if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(conexao, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        } finally {
+            // A permissão é devolvida uma única vez, mesmo que close() seja chamado de novo
+            if ("close".equals(method.getName()) && liberada.compareAndSet(false, true)) {
+                semaforo.release();
+            }
+        }
+    }
+
+}
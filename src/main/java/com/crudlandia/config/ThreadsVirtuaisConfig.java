@@ -0,0 +1,52 @@
+package com.crudlandia.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do modo de threads virtuais.
+ *
+ * <p>
+ * Ativada por {@code spring.threads.virtual.enabled=true}: o Spring Boot passa a atender as
+ * requisições do Tomcat em threads virtuais (e, com elas, as transações dos serviços). Esta
+ * configuração complementa o modo envolvendo o DataSource em um {@link SemaforoDataSource}, para
+ * que a espera por conexão seja controlada pelo semáforo e não dentro do pool.
+ * </p>
+ *
+ * <p>
+ * Apenas o DataSource usado pela aplicação ({@code dataSource}) é envolvido; os DataSources que
+ * ele usa internamente (como os das réplicas de leitura) não, para que cada conexão ocupe uma
+ * única permissão.
+ * </p>
+ *
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ThreadsVirtuaisConfig {
+
+    @Bean
+    static BeanPostProcessor semaforoDataSourcePostProcessor(
+            @Value("${app.datasource.semaforo.permissoes:10}") int permissoes,
+            @Value("${app.datasource.semaforo.timeout-ms:30000}") long timeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+                        && !(bean instanceof SemaforoDataSource)) {
+                    return new SemaforoDataSource(dataSource, permissoes, timeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+
+}
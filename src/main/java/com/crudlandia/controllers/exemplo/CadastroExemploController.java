@@ -1,6 +1,11 @@
 package com.crudlandia.controllers.exemplo;
 
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -9,20 +14,38 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.crudlandia.controllers.exemplo.request.FiltroLoteExemploRequest;
 import com.crudlandia.controllers.exemplo.request.PesquisarCadastroExemploRequest;
 import com.crudlandia.controllers.exemplo.request.SalvarCadastroExemploRequest;
 import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.dtos.IngestaoExemploDTO;
+import com.crudlandia.dtos.OperacaoLoteDTO;
+import com.crudlandia.dtos.PaginaDTO;
+import com.crudlandia.enums.FormatoExportacaoEnum;
+import com.crudlandia.exceptions.CursorInvalidoException;
+import com.crudlandia.exceptions.ExemploInvalidoException;
 import com.crudlandia.exceptions.ExemploNaoEncontradoException;
 import com.crudlandia.exceptions.ExemploNomeDuplicadoException;
+import com.crudlandia.exceptions.ExemploVersaoConflitanteException;
+import com.crudlandia.exceptions.FilaIngestaoCheiaException;
+import com.crudlandia.exceptions.FiltroLoteInvalidoException;
+import com.crudlandia.exceptions.IngestaoNaoEncontradaException;
+import com.crudlandia.exceptions.OrdenacaoInvalidaException;
 import com.crudlandia.exceptions.ReferenciaNaoEncontradoException;
-import com.crudlandia.mappers.ExemploMapper;
 import com.crudlandia.services.exemplo.ExemploService;
-import com.github.pagehelper.PageHelper;
+import com.crudlandia.services.exemplo.IngestaoExemploService;
+import com.crudlandia.services.exemplo.ListagemExemploService;
 import com.github.pagehelper.PageInfo;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 /**
  * Controller REST responsável pelo gerenciamento de Exemplos.
  * 
@@ -32,7 +55,16 @@ import com.github.pagehelper.PageInfo;
  * </p>
  * 
  * <p>
- * Todas as requisições e respostas utilizam o formato JSON.
+ * As requisições e respostas utilizam o formato JSON por padrão. Os endpoints que recebem ou
+ * devolvem objetos também aceitam as codificações binárias CBOR ({@code application/cbor}) e
+ * Smile ({@code application/x-jackson-smile}), conforme os cabeçalhos {@code Content-Type} e
+ * {@code Accept}.
+ * </p>
+ * 
+ * <p>
+ * Os endpoints de escrita aceitam o cabeçalho {@code Idempotency-Key}: uma requisição repetida
+ * com a mesma chave recebe a resposta da primeira, sem executá-la de novo (ver
+ * {@link com.crudlandia.config.IdempotenciaFilter}).
  * </p>
  * 
  * @author Crudlandia Team
@@ -47,7 +79,10 @@ public class CadastroExemploController {
     private ExemploService exemploService;
 
     @Autowired
-    protected ExemploMapper exemploMapper;
+    private ListagemExemploService listagemExemploService;
+
+    @Autowired
+    private IngestaoExemploService ingestaoExemploService;
 
     /**
      * Cria um novo exemplo no sistema.
@@ -73,7 +108,89 @@ public class CadastroExemploController {
                 request.getDescricao(), request.getSequencia(), request.getValor(),
                 request.getPeso(), request.getDthrEmissao());
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(criado);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(EtagExemplo.de(criado))
+                .body(criado);
+    }
+
+    /**
+     * Cria vários exemplos em uma única requisição.
+     * 
+     * <p>
+     * Indicado para cargas/importações: a unicidade dos nomes e a existência das referências são
+     * validadas uma vez por lote e os registros são inseridos em lotes JDBC. Se qualquer item for
+     * inválido, nenhum exemplo é criado. Assim como em {@link #criar}, todos os exemplos criados
+     * terão status ATIVO.
+     * </p>
+     * 
+     * @param requests lista contendo os dados dos exemplos a serem criados
+     * @return ResponseEntity contendo a lista de ExemploDTO criados com status HTTP 201 (Created)
+     * @throws com.crudlandia.exceptions.ExemploNomeDuplicadoException se algum nome já existir ou
+     *         estiver repetido no lote
+     * @throws com.crudlandia.exceptions.ReferenciaNaoEncontradoException se alguma referência
+     *         informada não existir
+     */
+    @PostMapping("/criarLote")
+    public ResponseEntity<List<ExemploDTO>> criarLote(
+            @RequestBody List<SalvarCadastroExemploRequest> requests)
+            throws ReferenciaNaoEncontradoException, ExemploNomeDuplicadoException {
+        List<ExemploDTO> exemplos = requests.stream()
+                .map(request -> new ExemploDTO(null, request.getReferenciaId(), request.getNome(),
+                        request.getDescricao(), request.getSequencia(), request.getValor(),
+                        request.getPeso(), request.getDthrEmissao(), null, null, null))
+                .toList();
+
+        List<ExemploDTO> criados = exemploService.criarLote(exemplos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(criados);
+    }
+
+    /**
+     * Enfileira um exemplo para criação assíncrona.
+     * 
+     * <p>
+     * Indicado para produtores que enviam muitos exemplos em rajadas: a requisição termina assim
+     * que o exemplo é validado e enfileirado, e a criação é feita em lotes por um escritor em
+     * segundo plano. A unicidade do nome só é verificada na criação; o resultado é consultado em
+     * {@link #buscarIngestao}, pelo endereço informado no cabeçalho {@code Location}.
+     * </p>
+     * 
+     * @param request objeto contendo os dados do exemplo a ser criado
+     * @return ResponseEntity contendo o IngestaoExemploDTO com o identificador de acompanhamento,
+     *         com status HTTP 202 (Accepted)
+     * @throws com.crudlandia.exceptions.ExemploInvalidoException se a referência ou o nome não
+     *         forem informados
+     * @throws com.crudlandia.exceptions.ReferenciaNaoEncontradoException se a referência informada
+     *         não existir
+     * @throws com.crudlandia.exceptions.FilaIngestaoCheiaException se a fila estiver cheia (HTTP
+     *         429); o cliente deve tentar novamente mais tarde
+     */
+    @PostMapping("/criarAssincrono")
+    public ResponseEntity<IngestaoExemploDTO> criarAssincrono(
+            @RequestBody SalvarCadastroExemploRequest request) throws ExemploInvalidoException,
+            ReferenciaNaoEncontradoException, FilaIngestaoCheiaException {
+        IngestaoExemploDTO ingestao = ingestaoExemploService.enfileirar(request.getReferenciaId(),
+                request.getNome(), request.getDescricao(), request.getSequencia(),
+                request.getValor(), request.getPeso(), request.getDthrEmissao());
+
+        // Endereço absoluto com o context-path da aplicação (server.servlet.context-path)
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/cadastro/exemplo/ingestao/{id}").buildAndExpand(ingestao.getId())
+                .toUri();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).location(location).body(ingestao);
+    }
+
+    /**
+     * Consulta a situação de um exemplo enviado para criação assíncrona.
+     * 
+     * @param id identificador de acompanhamento devolvido por {@link #criarAssincrono}
+     * @return ResponseEntity contendo o IngestaoExemploDTO com a situação (PENDENTE, CRIADO ou
+     *         FALHOU) e status HTTP 200 (OK)
+     * @throws com.crudlandia.exceptions.IngestaoNaoEncontradaException se o identificador não
+     *         existir ou já tiver expirado
+     */
+    @GetMapping("/ingestao/{id}")
+    public ResponseEntity<IngestaoExemploDTO> buscarIngestao(@PathVariable String id)
+            throws IngestaoNaoEncontradaException {
+        return ResponseEntity.ok(ingestaoExemploService.buscarSituacao(id));
     }
 
     /**
@@ -83,7 +200,14 @@ public class CadastroExemploController {
      * Valida se já existe outro exemplo com o mesmo nome antes de atualizar.
      * </p>
      * 
+     * <p>
+     * Se o cabeçalho {@code If-Match} for informado com a ETag obtida na leitura, a atualização
+     * só é feita se o exemplo não tiver sido alterado desde então; caso contrário responde 412
+     * (Precondition Failed). A resposta traz a ETag da nova versão.
+     * </p>
+     * 
      * @param id identificador único do exemplo a ser atualizado
+     * @param ifMatch ETag da versão lida pelo cliente (opcional)
      * @param request objeto contendo os dados atualizados do exemplo
      * @return ResponseEntity contendo o ExemploDTO atualizado com status HTTP 200 (OK)
      * @throws com.crudlandia.exceptions.ExemploNaoEncontradoException se o exemplo não for
@@ -92,49 +216,189 @@ public class CadastroExemploController {
      *         com o mesmo nome
      * @throws com.crudlandia.exceptions.ReferenciaNaoEncontradoException se a referência informada
      *         não existir
+     * @throws com.crudlandia.exceptions.ExemploVersaoConflitanteException se o exemplo não estiver
+     *         mais na versão informada em {@code If-Match}
      */
     @PutMapping("/atualizar/{id}")
     public ResponseEntity<ExemploDTO> atualizar(@PathVariable("id") Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody SalvarCadastroExemploRequest request) throws ExemploNaoEncontradoException,
-            ReferenciaNaoEncontradoException, ExemploNomeDuplicadoException {
-        ExemploDTO atualizado = exemploService.atualizar(id, request.getReferenciaId(),
+            ReferenciaNaoEncontradoException, ExemploNomeDuplicadoException,
+            ExemploVersaoConflitanteException {
+        ExemploDTO atualizado = exemploService.atualizar(id,
+                EtagExemplo.versaoEsperada(id, ifMatch), request.getReferenciaId(),
                 request.getNome(), request.getDescricao(), request.getSequencia(),
                 request.getValor(), request.getPeso(), request.getDthrEmissao());
-        return ResponseEntity.ok(atualizado);
+        return ResponseEntity.ok().eTag(EtagExemplo.de(atualizado)).body(atualizado);
+    }
+
+    /**
+     * Atualiza um exemplo existente em um único comando no banco, condicionado à versão lida pelo
+     * cliente.
+     * 
+     * <p>
+     * O cabeçalho {@code If-Match} com a ETag obtida na leitura é obrigatório (sem ele, ou com
+     * {@code *}, responde 412). O exemplo e a referência não são lidos antes da escrita; status e
+     * ativo não são alterados. A resposta não tem corpo e traz a ETag da nova versão.
+     * </p>
+     * 
+     * @param id identificador único do exemplo a ser atualizado
+     * @param ifMatch ETag da versão lida pelo cliente
+     * @param request objeto contendo os dados atualizados do exemplo
+     * @return ResponseEntity vazio com status HTTP 204 (No Content)
+     * @throws com.crudlandia.exceptions.ExemploNaoEncontradoException se o exemplo não for
+     *         encontrado
+     * @throws com.crudlandia.exceptions.ExemploNomeDuplicadoException se já existir outro exemplo
+     *         com o mesmo nome
+     * @throws com.crudlandia.exceptions.ReferenciaNaoEncontradoException se a referência informada
+     *         não existir
+     * @throws com.crudlandia.exceptions.ExemploVersaoConflitanteException se o {@code If-Match}
+     *         não for informado ou o exemplo não estiver mais na versão informada
+     */
+    @PutMapping("/atualizarVersionado/{id}")
+    public ResponseEntity<Void> atualizarVersionado(@PathVariable("id") Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody SalvarCadastroExemploRequest request) throws ExemploNaoEncontradoException,
+            ReferenciaNaoEncontradoException, ExemploNomeDuplicadoException,
+            ExemploVersaoConflitanteException {
+        Integer versao = EtagExemplo.versaoEsperada(id, ifMatch);
+        if (versao == null) {
+            throw new ExemploVersaoConflitanteException(id);
+        }
+        Integer novaVersao = exemploService.atualizarVersionado(id, versao,
+                request.getReferenciaId(), request.getNome(), request.getDescricao(),
+                request.getSequencia(), request.getValor(), request.getPeso(),
+                request.getDthrEmissao());
+        return ResponseEntity.noContent().eTag(EtagExemplo.de(id, novaVersao)).build();
     }
 
     /**
      * Busca um exemplo por seu identificador único.
      * 
+     * <p>
+     * A resposta traz a ETag do exemplo ({@code id-versao}). Quando o cliente envia essa ETag em
+     * {@code If-None-Match} e o exemplo não mudou, responde 304 (Not Modified) sem corpo, após
+     * consultar apenas a versão do exemplo.
+     * </p>
+     * 
      * @param id identificador único do exemplo
-     * @return ResponseEntity contendo o ExemploDTO encontrado com status HTTP 200 (OK)
+     * @param webRequest requisição atual, usada para avaliar o {@code If-None-Match}
+     * @return ResponseEntity contendo o ExemploDTO encontrado com status HTTP 200 (OK), ou vazio
+     *         com status HTTP 304 (Not Modified)
      * @throws com.crudlandia.exceptions.ExemploNaoEncontradoException se o exemplo não for
      *         encontrado
      */
     @GetMapping("/buscarPorId/{id}")
-    public ResponseEntity<ExemploDTO> buscarPorId(@PathVariable("id") Long id)
-            throws ExemploNaoEncontradoException {
+    public ResponseEntity<ExemploDTO> buscarPorId(@PathVariable("id") Long id,
+            WebRequest webRequest) throws ExemploNaoEncontradoException {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = EtagExemplo.de(id, exemploService.buscarVersao(id));
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
         ExemploDTO dto = exemploService.buscarPorId(id);
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok().eTag(EtagExemplo.de(dto)).body(dto);
     }
 
     /**
      * Lista exemplos com paginação e filtros.
      * 
      * <p>
-     * Permite filtrar por período (data início e fim), nome, status, e ordenar por coluna
-     * específica em ordem ascendente ou descendente.
+     * Permite filtrar por período (data início e fim), nome, descrição, status, e ordenar em
+     * ordem ascendente ou descendente por um dos campos aceitos: id, nome, sequencia e
+     * dthrEmissao (ou o nome da coluna correspondente). Cada um desses campos é atendido por um
+     * índice; qualquer outro valor é rejeitado.
+     * </p>
+     * 
+     * <p>
+     * Com {@code contagem = PARALELA}, a contagem do total é feita em paralelo com a busca da
+     * página; se não terminar dentro do tempo limite, o total é devolvido como {@code -1}.
      * </p>
      * 
      * @param request objeto contendo os critérios de pesquisa e paginação
      * @return PageInfo contendo a lista paginada de ExemploDTO
+     * @throws com.crudlandia.exceptions.OrdenacaoInvalidaException se a ordenação não for
+     *         suportada
      */
     @PostMapping("/listagem")
-    public PageInfo<ExemploDTO> listagem(@RequestBody PesquisarCadastroExemploRequest request) {
-        PageHelper.startPage(request.getPageNum(), request.getPageSize());
-        return new PageInfo<ExemploDTO>(exemploMapper.listagemExemplo(request.getDthrInicio(),
-                request.getDthrFim(), request.getNome(), request.getStatus(),
-                request.getColumnType(), request.getOrderType()));
+    public PageInfo<ExemploDTO> listagem(@RequestBody PesquisarCadastroExemploRequest request)
+            throws OrdenacaoInvalidaException {
+        return listagemExemploService.listagem(request);
+    }
+
+    /**
+     * Lista exemplos com paginação por número de página e resposta resumida.
+     * 
+     * <p>
+     * Aceita os mesmos filtros de {@link #listagem}, mas não executa a contagem total por padrão:
+     * busca uma linha a mais que o tamanho da página para preencher {@code hasNext}. O total só é
+     * informado conforme o campo {@code contagem} da requisição ({@code NENHUMA}, {@code CACHE}
+     * ou {@code EXATA}).
+     * </p>
+     * 
+     * @param request objeto contendo os critérios de pesquisa, paginação e estratégia de contagem
+     * @return PaginaDTO contendo a lista de ExemploDTO
+     * @throws com.crudlandia.exceptions.OrdenacaoInvalidaException se a ordenação não for
+     *         suportada
+     */
+    @PostMapping("/listagemResumida")
+    public PaginaDTO<ExemploDTO> listagemResumida(
+            @RequestBody PesquisarCadastroExemploRequest request)
+            throws OrdenacaoInvalidaException {
+        return listagemExemploService.listagemResumida(request);
+    }
+
+    /**
+     * Lista exemplos com paginação por cursor (keyset).
+     * 
+     * <p>
+     * Aceita os mesmos filtros de {@link #listagem}, mas em vez do número da página utiliza o
+     * campo {@code cursor}: nulo na primeira página e, nas seguintes, o {@code nextCursor}
+     * devolvido pela página anterior. Diferente da paginação por OFFSET, o custo de cada página
+     * não cresce com a profundidade da navegação. Campos de ordenação aceitos: id, nome,
+     * sequencia e dthrEmissao.
+     * </p>
+     * 
+     * @param request objeto contendo os critérios de pesquisa, ordenação e o cursor
+     * @return PaginaDTO contendo a lista de ExemploDTO e o cursor da próxima página
+     * @throws com.crudlandia.exceptions.OrdenacaoInvalidaException se a ordenação não for
+     *         suportada
+     * @throws com.crudlandia.exceptions.CursorInvalidoException se o cursor for inválido
+     */
+    @PostMapping("/listagemCursor")
+    public PaginaDTO<ExemploDTO> listagemCursor(
+            @RequestBody PesquisarCadastroExemploRequest request)
+            throws OrdenacaoInvalidaException, CursorInvalidoException {
+        return listagemExemploService.listagemCursor(request);
+    }
+
+    /**
+     * Exporta todos os exemplos que atendem aos filtros, em NDJSON ou CSV.
+     * 
+     * <p>
+     * Aceita os mesmos filtros e ordenação de {@link #listagem}, sem paginação: os exemplos são
+     * lidos do banco por cursor e escritos diretamente no corpo da resposta à medida que são
+     * lidos, de modo que a memória usada não depende da quantidade exportada. Se o cliente
+     * desconectar, a consulta é encerrada.
+     * </p>
+     * 
+     * @param request objeto contendo os critérios de pesquisa e ordenação
+     * @param formato formato da exportação ({@code NDJSON} por padrão, ou {@code CSV})
+     * @param response resposta HTTP onde os exemplos serão escritos
+     * @throws com.crudlandia.exceptions.OrdenacaoInvalidaException se a ordenação não for
+     *         suportada
+     * @throws java.io.IOException se a escrita da resposta falhar
+     */
+    @PostMapping("/exportar")
+    public void exportar(@RequestBody PesquisarCadastroExemploRequest request,
+            @RequestParam(name = "formato",
+                    defaultValue = "NDJSON") FormatoExportacaoEnum formato,
+            HttpServletResponse response) throws OrdenacaoInvalidaException, IOException {
+        response.setContentType(formato.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"exemplos."
+                + formato.name().toLowerCase() + "\"");
+        listagemExemploService.exportar(request, formato, response.getOutputStream());
     }
 
     /**
@@ -152,6 +416,27 @@ public class CadastroExemploController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Deleta, em lote, os exemplos selecionados por uma lista de ids e/ou pelos filtros da
+     * listagem (período, nome, descrição, status) e referência.
+     * 
+     * <p>
+     * Assim como {@link #desativarLote}, os exemplos são removidos por comandos no banco, sem
+     * serem carregados, em blocos de tamanho limitado e com uma transação por bloco. Se a
+     * requisição for interrompida, os blocos já concluídos permanecem removidos.
+     * </p>
+     * 
+     * @param filtro seleção dos exemplos; é obrigatório informar os ids ou o período completo
+     * @return OperacaoLoteDTO com a quantidade de exemplos deletados
+     * @throws com.crudlandia.exceptions.FiltroLoteInvalidoException se não forem informados ids
+     *         nem o período completo
+     */
+    @PostMapping("/deletarLote")
+    public OperacaoLoteDTO deletarLote(@RequestBody FiltroLoteExemploRequest filtro)
+            throws FiltroLoteInvalidoException {
+        return exemploService.deletarLote(filtro);
+    }
+
     @PutMapping("/desativar/{id}")
     public ResponseEntity<Void> desativar(@PathVariable("id") Long id)
             throws ExemploNaoEncontradoException {
@@ -159,4 +444,26 @@ public class CadastroExemploController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Desativa, em lote, os exemplos selecionados por uma lista de ids e/ou pelos filtros da
+     * listagem (período, nome, descrição, status) e referência.
+     * 
+     * <p>
+     * Indicado para rotinas que desativam muitos exemplos: a desativação é feita por comandos
+     * UPDATE no banco, sem carregar os exemplos, em blocos de tamanho limitado e com uma
+     * transação por bloco, para não manter bloqueios longos. Exemplos já inativos são ignorados.
+     * Se a requisição for interrompida, os blocos já concluídos permanecem desativados.
+     * </p>
+     * 
+     * @param filtro seleção dos exemplos; é obrigatório informar os ids ou o período completo
+     * @return OperacaoLoteDTO com a quantidade de exemplos desativados
+     * @throws com.crudlandia.exceptions.FiltroLoteInvalidoException se não forem informados ids
+     *         nem o período completo
+     */
+    @PutMapping("/desativarLote")
+    public OperacaoLoteDTO desativarLote(@RequestBody FiltroLoteExemploRequest filtro)
+            throws FiltroLoteInvalidoException {
+        return exemploService.desativarLote(filtro);
+    }
+
 }
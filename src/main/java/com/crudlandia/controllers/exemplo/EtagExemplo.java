@@ -0,0 +1,66 @@
+package com.crudlandia.controllers.exemplo;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.exceptions.ExemploVersaoConflitanteException;
+
+/**
+ * Montagem e interpretação das ETags de Exemplos.
+ * 
+ * <p>
+ * A ETag de um exemplo é {@code "<id>-<versao>"}: muda a cada escrita, pois a versão é
+ * incrementada pelo {@code @Version} da entidade, e pode ser verificada sem carregar a linha
+ * inteira.
+ * </p>
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class EtagExemplo {
+
+    private EtagExemplo() {
+    }
+
+    /**
+     * Monta a ETag (forte, entre aspas) de um exemplo.
+     */
+    static String de(Long id, Integer versao) {
+        return "\"" + id + "-" + versao + "\"";
+    }
+
+    static String de(ExemploDTO exemplo) {
+        return de(exemplo.getId(), exemplo.getVersao());
+    }
+
+    /**
+     * Extrai a versão esperada do cabeçalho {@code If-Match}.
+     * 
+     * <p>
+     * Retorna null quando o cabeçalho não é informado ou é {@code *} (sem verificação de versão).
+     * ETags fracas, de outro exemplo ou malformadas nunca correspondem a uma versão, como exige a
+     * comparação forte do {@code If-Match}.
+     * </p>
+     * 
+     * @param id identificador do exemplo sendo alterado
+     * @param ifMatch valor do cabeçalho {@code If-Match}
+     * @return a versão esperada, ou null
+     * @throws ExemploVersaoConflitanteException se a ETag não corresponder ao exemplo
+     */
+    static Integer versaoEsperada(Long id, String ifMatch)
+            throws ExemploVersaoConflitanteException {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        String prefixo = "\"" + id + "-";
+        if (!valor.startsWith(prefixo) || !valor.endsWith("\"")
+                || valor.length() <= prefixo.length() + 1) {
+            throw new ExemploVersaoConflitanteException(id);
+        }
+        try {
+            return Integer.valueOf(valor.substring(prefixo.length(), valor.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new ExemploVersaoConflitanteException(id);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.crudlandia.controllers.exemplo.request;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.crudlandia.enums.StatusEnum;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Seleção dos exemplos afetados por uma operação em lote.
+ * 
+ * <p>
+ * Os exemplos podem ser selecionados por uma lista de ids, pelos mesmos filtros da listagem
+ * (período, nome, descrição e status) acrescidos da referência, ou pelos dois combinados. É
+ * obrigatório informar os ids ou o período completo.
+ * </p>
+ */
+@Getter
+@Setter
+public class FiltroLoteExemploRequest implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private List<Long> ids;
+
+	private LocalDate dthrInicio;
+
+	private LocalDate dthrFim;
+
+	private String nome;
+
+	private String descricao;
+
+	private StatusEnum status;
+
+	private Long referenciaId;
+
+}
@@ -4,6 +4,7 @@ import java.io.Serializable;
 import java.time.LocalDate;
 
 import com.crudlandia.enums.StatusEnum;
+import com.crudlandia.enums.TipoContagemEnum;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -22,6 +23,12 @@ public class PesquisarCadastroExemploRequest implements Serializable {
 	private LocalDate dthrFim;
 	
 	private String nome;
+	
+	/**
+	 * Trecho da descrição para filtro (busca em qualquer posição). Opcional.
+	 */
+	private String descricao;
+	
 	private StatusEnum status;
 	
 	@NotNull
@@ -36,4 +43,16 @@ public class PesquisarCadastroExemploRequest implements Serializable {
 	@NotBlank
 	private String orderType;
 	
+	/**
+	 * Cursor devolvido pela página anterior na paginação por cursor (keyset). Deve ser nulo na
+	 * primeira página. Ignorado pela listagem por número de página.
+	 */
+	private String cursor;
+	
+	/**
+	 * Estratégia de contagem do total na listagem resumida e na listagem paginada (nesta, apenas
+	 * {@code PARALELA} tem efeito). Ignorado pelas demais listagens.
+	 */
+	private TipoContagemEnum contagem = TipoContagemEnum.NENHUMA;
+	
 }
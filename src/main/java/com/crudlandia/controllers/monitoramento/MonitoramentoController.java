@@ -0,0 +1,78 @@
+package com.crudlandia.controllers.monitoramento;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.crudlandia.config.ConsultaLentaInterceptor;
+import com.crudlandia.dtos.ConsultaLentaDTO;
+import com.crudlandia.dtos.EstatisticasCacheDTO;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Controller REST com informações de monitoramento da aplicação.
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController
+@RequestMapping("/monitoramento")
+public class MonitoramentoController {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ConsultaLentaInterceptor consultaLentaInterceptor;
+
+    /**
+     * Lista as estatísticas de acertos e falhas de cada região do cache de segundo nível.
+     * 
+     * <p>
+     * Requer {@code hibernate.generate_statistics=true}; caso contrário os contadores ficam
+     * zerados.
+     * </p>
+     * 
+     * @return lista com as estatísticas de cada região
+     */
+    @GetMapping("/cache")
+    public List<EstatisticasCacheDTO> cache() {
+        Statistics estatisticas =
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return Arrays.stream(estatisticas.getSecondLevelCacheRegionNames()).sorted()
+                .map(regiao -> estatisticasRegiao(regiao,
+                        estatisticas.getDomainDataRegionStatistics(regiao)))
+                .toList();
+    }
+
+    /**
+     * Lista os comandos MyBatis mais lentos que {@code app.monitoramento.consulta-lenta.limite-ms}
+     * ainda mantidos em memória, do mais recente para o mais antigo, com o SQL executado e os
+     * valores dos parâmetros.
+     * 
+     * @return lista com as consultas lentas
+     */
+    @GetMapping("/consultasLentas")
+    public List<ConsultaLentaDTO> consultasLentas() {
+        return consultaLentaInterceptor.listar();
+    }
+
+    private static EstatisticasCacheDTO estatisticasRegiao(String regiao,
+            CacheRegionStatistics estatisticas) {
+        long acertos = estatisticas.getHitCount();
+        long falhas = estatisticas.getMissCount();
+        double taxaAcerto = acertos + falhas > 0 ? (double) acertos / (acertos + falhas) : 0;
+        return new EstatisticasCacheDTO(regiao, acertos, falhas, estatisticas.getPutCount(),
+                taxaAcerto);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.crudlandia.dtos;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Comando MyBatis cuja execução ultrapassou o limite de consulta lenta.
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ConsultaLentaDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Identificador do comando no mapper (ex.: {@code ...ExemploMapper.listagemExemplo}).
+	 */
+	private String statement;
+
+	/**
+	 * SQL executado, já com o SQL dinâmico resolvido (ordenação, filtros e paginação).
+	 */
+	private String sql;
+
+	/**
+	 * Valores dos parâmetros, na ordem dos {@code ?} do SQL.
+	 */
+	private List<String> parametros;
+
+	/**
+	 * Linhas retornadas (consultas) ou alteradas (demais comandos).
+	 */
+	private int linhas;
+
+	private long duracaoMs;
+
+	private LocalDateTime dthrExecucao;
+
+	/**
+	 * Erro lançado pelo comando, ou null se ele foi concluído.
+	 */
+	private String erro;
+}
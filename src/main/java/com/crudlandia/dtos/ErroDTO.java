@@ -0,0 +1,20 @@
+package com.crudlandia.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Corpo das respostas de erro da API.
+ * 
+ * @param timestamp data/hora do erro
+ * @param status status HTTP
+ * @param error descrição do status HTTP
+ * @param message código do erro (valor de {@code @ApiException}) ou mensagem da exceção
+ * @param path caminho da requisição
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record ErroDTO(LocalDateTime timestamp, int status, String error, String message,
+		String path) {
+}
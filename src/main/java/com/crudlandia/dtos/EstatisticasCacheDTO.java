@@ -0,0 +1,30 @@
+package com.crudlandia.dtos;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Estatísticas de uma região do cache de segundo nível do Hibernate, acumuladas desde a
+ * inicialização (ou desde a última limpeza das estatísticas).
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EstatisticasCacheDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private String regiao;
+	private long acertos;
+	private long falhas;
+	private long insercoes;
+	private double taxaAcerto;
+}
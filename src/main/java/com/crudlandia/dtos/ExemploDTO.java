@@ -26,5 +26,6 @@ public class ExemploDTO implements Serializable {
 	private LocalDateTime dthrEmissao;
 	private StatusEnum status;
 	private Boolean ativo;
+	private Integer versao;
 	
 }
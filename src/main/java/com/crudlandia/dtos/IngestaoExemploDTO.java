@@ -0,0 +1,42 @@
+package com.crudlandia.dtos;
+
+import java.io.Serializable;
+
+import com.crudlandia.enums.SituacaoIngestaoEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Situação de um exemplo enviado para criação assíncrona.
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class IngestaoExemploDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Identificador de acompanhamento devolvido ao enfileirar.
+	 */
+	private String id;
+
+	private SituacaoIngestaoEnum situacao;
+
+	/**
+	 * Identificador do exemplo criado, quando a situação for CRIADO.
+	 */
+	private Long exemploId;
+
+	/**
+	 * Código do erro (o mesmo das respostas de erro da API), quando a situação for FALHOU.
+	 */
+	private String erro;
+}
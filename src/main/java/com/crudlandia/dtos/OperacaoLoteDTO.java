@@ -0,0 +1,33 @@
+package com.crudlandia.dtos;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Resultado de uma operação em lote sobre exemplos.
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OperacaoLoteDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Quantidade de exemplos alterados.
+	 */
+	private long afetados;
+
+	/**
+	 * Quantidade de blocos (comandos e transações) em que a operação foi dividida.
+	 */
+	private int blocos;
+}
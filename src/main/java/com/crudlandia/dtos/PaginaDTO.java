@@ -0,0 +1,43 @@
+package com.crudlandia.dtos;
+
+import java.io.Serializable;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Página enxuta de resultados de uma listagem.
+ * 
+ * <p>
+ * Alternativa ao {@code PageInfo} do PageHelper para as listagens que não precisam dos campos de
+ * navegação: informa os itens, o tamanho da página, se existe próxima página e, conforme o modo de
+ * paginação, o número da página, o total de registros (quando contado) ou o cursor que deve ser
+ * enviado para obter a próxima página. Campos nulos não são serializados.
+ * </p>
+ * 
+ * @param <T> tipo dos itens da página
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaginaDTO<T> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private List<T> list;
+	private Integer pageNum;
+	private Integer pageSize;
+	private Long total;
+	private Boolean hasNext;
+	private String nextCursor;
+
+}
@@ -0,0 +1,100 @@
+package com.crudlandia.enums;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.crudlandia.dtos.ExemploDTO;
+
+/**
+ * Campos pelos quais a listagem de Exemplos pode ser ordenada.
+ * 
+ * <p>
+ * Cada campo associa o nome exposto na API à coluna SQL correspondente, evitando que valores
+ * informados pelo cliente sejam concatenados diretamente no ORDER BY. Os campos também sabem
+ * extrair e reconstruir o valor da coluna, o que permite montar o cursor da paginação por keyset.
+ * Apenas colunas não nulas são aceitas, pois a comparação {@code (coluna, id) > (?, ?)} não é
+ * definida para NULL.
+ * </p>
+ * 
+ * <p>
+ * Só são aceitos campos cuja ordenação {@code (coluna, id)} é atendida por um índice, para que a
+ * página seja lida na ordem do índice em vez de ordenar todo o intervalo filtrado: {@code id}
+ * (chave primária), {@code nome} ({@code uk_exemplos_nome}), {@code sequencia}
+ * ({@code idx_exemplos_sequencia_id}) e {@code dthrEmissao} ({@code idx_exemplos_dthr_emissao_id}).
+ * Um novo campo só deve ser incluído aqui junto com o índice correspondente em
+ * {@code ExemploEntity}.
+ * </p>
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum CampoOrdenacaoExemploEnum {
+	ID("id", "ex.id", ExemploDTO::getId, Long::valueOf),
+	NOME("nome", "ex.nome", ExemploDTO::getNome, valor -> valor),
+	SEQUENCIA("sequencia", "ex.sequencia", ExemploDTO::getSequencia, Integer::valueOf),
+	DTHR_EMISSAO("dthrEmissao", "ex.dthr_emissao", ExemploDTO::getDthrEmissao, LocalDateTime::parse);
+
+	private final String campo;
+	private final String coluna;
+	private final Function<ExemploDTO, Object> extrator;
+	private final Function<String, Object> conversor;
+
+	private CampoOrdenacaoExemploEnum(String campo, String coluna,
+			Function<ExemploDTO, Object> extrator, Function<String, Object> conversor) {
+		this.campo = campo;
+		this.coluna = coluna;
+		this.extrator = extrator;
+		this.conversor = conversor;
+	}
+
+	public String getCampo() {
+		return campo;
+	}
+
+	public String getColuna() {
+		return coluna;
+	}
+
+	/**
+	 * Extrai de um DTO o valor deste campo em formato texto.
+	 * 
+	 * @param dto exemplo do qual extrair o valor
+	 * @return o valor do campo convertido para String
+	 */
+	public String valorTexto(ExemploDTO dto) {
+		return String.valueOf(extrator.apply(dto));
+	}
+
+	/**
+	 * Converte o valor em formato texto (gerado por {@link #valorTexto}) para o tipo da coluna.
+	 * 
+	 * @param valor valor em formato texto
+	 * @return o valor convertido, pronto para ser usado como parâmetro SQL
+	 */
+	public Object converterValor(String valor) {
+		return conversor.apply(valor);
+	}
+
+	/**
+	 * Obtém o campo a partir do valor informado pelo cliente.
+	 * 
+	 * <p>
+	 * Aceita tanto o nome do campo na API (ex: "dthrEmissao") quanto o nome da coluna (ex:
+	 * "dthr_emissao"), ignorando maiúsculas/minúsculas.
+	 * </p>
+	 * 
+	 * @param valor valor informado
+	 * @return Optional contendo o campo correspondente, ou vazio se o valor não for aceito
+	 */
+	public static Optional<CampoOrdenacaoExemploEnum> porNome(String valor) {
+		for (CampoOrdenacaoExemploEnum campoOrdenacao : values()) {
+			if (campoOrdenacao.campo.equalsIgnoreCase(valor)
+					|| campoOrdenacao.coluna.substring(3).equalsIgnoreCase(valor)) {
+				return Optional.of(campoOrdenacao);
+			}
+		}
+		return Optional.empty();
+	}
+}
@@ -0,0 +1,45 @@
+package com.crudlandia.enums;
+
+import java.util.Optional;
+
+/**
+ * Direções de ordenação aceitas nas listagens.
+ * 
+ * <p>
+ * Cada direção conhece o operador de comparação usado na paginação por cursor (keyset): em ordem
+ * ascendente a próxima página contém as linhas "maiores" que a última lida, e em ordem descendente
+ * as "menores".
+ * </p>
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum DirecaoOrdenacaoEnum {
+	ASC(">"), DESC("<");
+
+	private final String operador;
+
+	private DirecaoOrdenacaoEnum(String operador) {
+		this.operador = operador;
+	}
+
+	public String getOperador() {
+		return operador;
+	}
+
+	/**
+	 * Obtém a direção a partir do valor informado pelo cliente, ignorando maiúsculas/minúsculas.
+	 * 
+	 * @param valor valor informado (ex: "asc", "DESC")
+	 * @return Optional contendo a direção correspondente, ou vazio se o valor não for aceito
+	 */
+	public static Optional<DirecaoOrdenacaoEnum> porNome(String valor) {
+		for (DirecaoOrdenacaoEnum direcao : values()) {
+			if (direcao.name().equalsIgnoreCase(valor)) {
+				return Optional.of(direcao);
+			}
+		}
+		return Optional.empty();
+	}
+}
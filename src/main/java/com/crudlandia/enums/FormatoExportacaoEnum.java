@@ -0,0 +1,27 @@
+package com.crudlandia.enums;
+
+/**
+ * Formatos aceitos na exportação da listagem de Exemplos.
+ * 
+ * <ul>
+ * <li>{@link #NDJSON}: um objeto JSON por linha ({@code application/x-ndjson})</li>
+ * <li>{@link #CSV}: valores separados por vírgula, com cabeçalho ({@code text/csv})</li>
+ * </ul>
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum FormatoExportacaoEnum {
+	NDJSON("application/x-ndjson"), CSV("text/csv;charset=UTF-8");
+
+	private final String contentType;
+
+	private FormatoExportacaoEnum(String contentType) {
+		this.contentType = contentType;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+}
@@ -0,0 +1,5 @@
+package com.crudlandia.enums;
+
+public enum SituacaoIngestaoEnum {
+	PENDENTE, CRIADO, FALHOU;
+}
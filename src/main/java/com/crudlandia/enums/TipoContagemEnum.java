@@ -0,0 +1,26 @@
+package com.crudlandia.enums;
+
+/**
+ * Estratégias de contagem do total de registros nas listagens.
+ * 
+ * <ul>
+ * <li>{@link #NENHUMA}: não conta; a página informa apenas se existe próxima página</li>
+ * <li>{@link #CACHE}: conta uma vez e reaproveita o total para os mesmos filtros por um período
+ * limitado (o total pode estar levemente desatualizado)</li>
+ * <li>{@link #EXATA}: conta a cada requisição</li>
+ * <li>{@link #PARALELA}: conta a cada requisição, em paralelo com a busca da página e em outra
+ * conexão; se a contagem não terminar dentro do tempo limite, o total é omitido</li>
+ * </ul>
+ * 
+ * <p>
+ * Na listagem paginada pelo PageHelper apenas {@link #PARALELA} altera o comportamento; os demais
+ * valores mantêm a contagem sequencial do PageHelper.
+ * </p>
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum TipoContagemEnum {
+	NENHUMA, CACHE, EXATA, PARALELA;
+}
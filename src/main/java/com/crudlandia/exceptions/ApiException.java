@@ -5,9 +5,15 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.springframework.http.HttpStatus;
+
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface ApiException {
     String value();
-}
 
+    /**
+     * Status HTTP da resposta de erro.
+     */
+    HttpStatus status() default HttpStatus.INTERNAL_SERVER_ERROR;
+}
@@ -0,0 +1,18 @@
+package com.crudlandia.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+@ApiException(value = "CURSOR_INVALIDO", status = HttpStatus.BAD_REQUEST)
+public class CursorInvalidoException extends NegocioException {
+    private static final long serialVersionUID = 1L;
+
+    private String cursor;
+
+    public CursorInvalidoException(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+}
@@ -0,0 +1,11 @@
+package com.crudlandia.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+@ApiException(value = "EXEMPLO_INVALIDO", status = HttpStatus.BAD_REQUEST)
+public class ExemploInvalidoException extends NegocioException {
+    private static final long serialVersionUID = 1L;
+
+    public ExemploInvalidoException() {
+    }
+}
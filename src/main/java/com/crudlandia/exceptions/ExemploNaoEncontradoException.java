@@ -1,7 +1,9 @@
 package com.crudlandia.exceptions;
 
-@ApiException("EXEMPLO_NAO_ENCONTRADO")
-public class ExemploNaoEncontradoException extends Exception {
+import org.springframework.http.HttpStatus;
+
+@ApiException(value = "EXEMPLO_NAO_ENCONTRADO", status = HttpStatus.NOT_FOUND)
+public class ExemploNaoEncontradoException extends NegocioException {
     private static final long serialVersionUID = 1L;
 
     private Long id;
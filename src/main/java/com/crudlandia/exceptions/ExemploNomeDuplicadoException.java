@@ -1,7 +1,9 @@
 package com.crudlandia.exceptions;
 
-@ApiException("EXEMPLO_NOME_DUPLICADO")
-public class ExemploNomeDuplicadoException extends Exception {
+import org.springframework.http.HttpStatus;
+
+@ApiException(value = "EXEMPLO_NOME_DUPLICADO", status = HttpStatus.CONFLICT)
+public class ExemploNomeDuplicadoException extends NegocioException {
     private static final long serialVersionUID = 1L;
 
     private Long idExistente;
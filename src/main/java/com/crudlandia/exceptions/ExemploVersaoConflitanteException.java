@@ -0,0 +1,18 @@
+package com.crudlandia.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+@ApiException(value = "EXEMPLO_VERSAO_CONFLITANTE", status = HttpStatus.PRECONDITION_FAILED)
+public class ExemploVersaoConflitanteException extends NegocioException {
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    public ExemploVersaoConflitanteException(Long id) {
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,11 @@
+package com.crudlandia.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+@ApiException(value = "FILA_INGESTAO_CHEIA", status = HttpStatus.TOO_MANY_REQUESTS)
+public class FilaIngestaoCheiaException extends NegocioException {
+    private static final long serialVersionUID = 1L;
+
+    public FilaIngestaoCheiaException() {
+    }
+}
@@ -1,54 +1,64 @@
 package com.crudlandia.exceptions;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 
+import com.crudlandia.dtos.ErroDTO;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     /**
-     * Trata todas as exceções anotadas com @ApiException Retorna status 500 com a string da
-     * anotação como mensagem
+     * Status, descrição e código de erro de cada classe de exceção, lidos da anotação
+     * {@link ApiException} uma única vez por classe.
      */
-    @ExceptionHandler({ExemploNaoEncontradoException.class, ExemploNomeDuplicadoException.class,
-            ReferenciaNaoEncontradoException.class})
-    public ResponseEntity<Map<String, Object>> handleApiException(Exception ex,
-            WebRequest request) {
-        String message = ex.getClass().getSimpleName();
-
-        // Obtém o valor da anotação @ApiException
-        if (ex.getClass().isAnnotationPresent(ApiException.class)) {
-            ApiException annotation = ex.getClass().getAnnotation(ApiException.class);
-            message = annotation.value();
+    private static final ClassValue<DescricaoErro> DESCRICOES = new ClassValue<>() {
+        @Override
+        protected DescricaoErro computeValue(Class<?> tipo) {
+            ApiException anotacao = tipo.getAnnotation(ApiException.class);
+            if (anotacao == null) {
+                return new DescricaoErro(HttpStatus.INTERNAL_SERVER_ERROR, tipo.getSimpleName());
+            }
+            return new DescricaoErro(anotacao.status(), anotacao.value());
         }
+    };
 
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        body.put("error", "Internal Server Error");
-        body.put("message", message);
-        body.put("path", request.getDescription(false).replace("uri=", ""));
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
+    /**
+     * Trata todas as exceções de negócio anotadas com @ApiException. Retorna o status definido
+     * na anotação com a string da anotação como mensagem
+     */
+    @ExceptionHandler(NegocioException.class)
+    public ResponseEntity<ErroDTO> handleApiException(NegocioException ex, WebRequest request) {
+        DescricaoErro descricao = DESCRICOES.get(ex.getClass());
+        return ResponseEntity.status(descricao.status())
+                .body(new ErroDTO(LocalDateTime.now(), descricao.status().value(),
+                        descricao.erro(), descricao.codigo(), caminho(request)));
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex,
-            WebRequest request) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        body.put("error", "Internal Server Error");
-        body.put("message", ex.getMessage());
-        body.put("path", request.getDescription(false).replace("uri=", ""));
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
+    public ResponseEntity<ErroDTO> handleGenericException(Exception ex, WebRequest request) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErroDTO(LocalDateTime.now(), HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                        "Internal Server Error", ex.getMessage(), caminho(request)));
+    }
+
+    private static String caminho(WebRequest request) {
+        if (request instanceof ServletWebRequest servletRequest) {
+            return servletRequest.getRequest().getRequestURI();
+        }
+        return request.getDescription(false).replace("uri=", "");
+    }
+
+    private record DescricaoErro(HttpStatus status, String codigo, String erro) {
+
+        DescricaoErro(HttpStatus status, String codigo) {
+            this(status, codigo, status.getReasonPhrase());
+        }
     }
 }
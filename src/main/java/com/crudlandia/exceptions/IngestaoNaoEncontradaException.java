@@ -0,0 +1,19 @@
+package com.crudlandia.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+@ApiException(value = "INGESTAO_NAO_ENCONTRADA", status = HttpStatus.NOT_FOUND)
+public class IngestaoNaoEncontradaException extends NegocioException {
+    private static final long serialVersionUID = 1L;
+
+    private String id;
+
+    public IngestaoNaoEncontradaException(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.crudlandia.exceptions;
+
+/**
+ * Base das exceções de negócio anotadas com {@link ApiException}.
+ * 
+ * <p>
+ * Essas exceções descrevem situações esperadas (exemplo inexistente, nome duplicado...) e são
+ * convertidas em respostas de erro pelo {@link GlobalExceptionHandler}. Por isso não registram a
+ * pilha de chamadas nem exceções suprimidas: o preenchimento da pilha é a parte mais cara da
+ * criação de uma exceção e nunca é usado.
+ * </p>
+ */
+public abstract class NegocioException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    protected NegocioException() {
+        super(null, null, false, false);
+    }
+}
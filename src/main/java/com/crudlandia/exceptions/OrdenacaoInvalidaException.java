@@ -0,0 +1,18 @@
+package com.crudlandia.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+@ApiException(value = "ORDENACAO_INVALIDA", status = HttpStatus.BAD_REQUEST)
+public class OrdenacaoInvalidaException extends NegocioException {
+    private static final long serialVersionUID = 1L;
+
+    private String valor;
+
+    public OrdenacaoInvalidaException(String valor) {
+        this.valor = valor;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+}
@@ -1,7 +1,9 @@
 package com.crudlandia.exceptions;
 
-@ApiException("REFERENCIA_NAO_ENCONTRADO")
-public class ReferenciaNaoEncontradoException extends Exception {
+import org.springframework.http.HttpStatus;
+
+@ApiException(value = "REFERENCIA_NAO_ENCONTRADO", status = HttpStatus.NOT_FOUND)
+public class ReferenciaNaoEncontradoException extends NegocioException {
     private static final long serialVersionUID = 1L;
 
     private Long id;
@@ -5,8 +5,11 @@ import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.enums.CampoOrdenacaoExemploEnum;
+import com.crudlandia.enums.DirecaoOrdenacaoEnum;
 import com.crudlandia.enums.StatusEnum;
 
 /**
@@ -28,8 +31,15 @@ public interface ExemploMapper {
 	 * Realiza listagem paginada de exemplos com filtros.
 	 * 
 	 * <p>
-	 * Permite filtrar exemplos por período (data início e fim), nome, status, e ordenar os
-	 * resultados por uma coluna específica em ordem ascendente ou descendente.
+	 * Permite filtrar exemplos por período (data início e fim), nome, descrição, status, e
+	 * ordenar os resultados por um dos campos aceitos em ordem ascendente ou descendente. O
+	 * {@code id} é usado como desempate, para que a ordem entre páginas seja estável.
+	 * </p>
+	 * 
+	 * <p>
+	 * Os filtros de nome e descrição buscam o texto em qualquer posição. No PostgreSQL essa busca
+	 * é atendida pelos índices de trigramas criados na inicialização (ver
+	 * {@code IndicesBuscaTextualInitializer}); nos demais bancos é feita por varredura.
 	 * </p>
 	 * 
 	 * <p>
@@ -40,14 +50,185 @@ public interface ExemploMapper {
 	 * @param dthrInicio data de início do período de filtro
 	 * @param dthrFim data de fim do período de filtro
 	 * @param nome nome para filtro (permite busca parcial)
+	 * @param descricao descrição para filtro (permite busca parcial)
 	 * @param status status para filtro (ATIVO ou INATIVO)
-	 * @param columnType nome da coluna para ordenação
-	 * @param orderType tipo de ordenação (ASC ou DESC)
+	 * @param campo campo de ordenação
+	 * @param direcao direção da ordenação
 	 * @return List contendo a lista de ExemploDTO encontrados
 	 */
 	public List<ExemploDTO> listagemExemplo(@Param("dthrInicio") LocalDate dthrInicio,
 			@Param("dthrFim") LocalDate dthrFim, @Param("nome") String nome,
-			@Param("status") StatusEnum status, @Param("columnType") String columnType,
-			@Param("orderType") String orderType);
+			@Param("descricao") String descricao, @Param("status") StatusEnum status,
+			@Param("campo") CampoOrdenacaoExemploEnum campo,
+			@Param("direcao") DirecaoOrdenacaoEnum direcao);
+
+	/**
+	 * Realiza listagem de exemplos com paginação por cursor (keyset).
+	 * 
+	 * <p>
+	 * Aplica os mesmos filtros de {@link #listagemExemplo}, mas em vez de pular linhas com OFFSET
+	 * posiciona a leitura logo após a última linha da página anterior, comparando
+	 * {@code (coluna, id)} com o valor do cursor. Assim o custo de qualquer página é o mesmo da
+	 * primeira. Não deve ser usado com o PageHelper.
+	 * </p>
+	 * 
+	 * @param dthrInicio data de início do período de filtro
+	 * @param dthrFim data de fim do período de filtro
+	 * @param nome nome para filtro (permite busca parcial)
+	 * @param descricao descrição para filtro (permite busca parcial)
+	 * @param status status para filtro (ATIVO ou INATIVO)
+	 * @param campo campo de ordenação
+	 * @param direcao direção da ordenação
+	 * @param valorCursor valor da coluna de ordenação na última linha lida (null na primeira
+	 *        página)
+	 * @param idCursor id da última linha lida (null na primeira página)
+	 * @param limite quantidade máxima de linhas retornadas
+	 * @return List contendo a lista de ExemploDTO encontrados
+	 */
+	public List<ExemploDTO> listagemExemploCursor(@Param("dthrInicio") LocalDate dthrInicio,
+			@Param("dthrFim") LocalDate dthrFim, @Param("nome") String nome,
+			@Param("descricao") String descricao, @Param("status") StatusEnum status,
+			@Param("campo") CampoOrdenacaoExemploEnum campo,
+			@Param("direcao") DirecaoOrdenacaoEnum direcao, @Param("valorCursor") Object valorCursor,
+			@Param("idCursor") Long idCursor, @Param("limite") int limite);
+
+	/**
+	 * Realiza listagem de uma página de exemplos por OFFSET, sem contagem de registros.
+	 * 
+	 * <p>
+	 * Aplica os mesmos filtros de {@link #listagemExemplo}. Diferente da paginação do PageHelper,
+	 * não executa o {@code SELECT COUNT(*)}; para saber se existe próxima página, o chamador deve
+	 * solicitar uma linha a mais que o tamanho da página. Não deve ser usado com o PageHelper.
+	 * </p>
+	 * 
+	 * @param dthrInicio data de início do período de filtro
+	 * @param dthrFim data de fim do período de filtro
+	 * @param nome nome para filtro (permite busca parcial)
+	 * @param descricao descrição para filtro (permite busca parcial)
+	 * @param status status para filtro (ATIVO ou INATIVO)
+	 * @param campo campo de ordenação
+	 * @param direcao direção da ordenação
+	 * @param offset quantidade de linhas a descartar
+	 * @param limite quantidade máxima de linhas retornadas
+	 * @return List contendo a lista de ExemploDTO encontrados
+	 */
+	public List<ExemploDTO> listagemExemploPagina(@Param("dthrInicio") LocalDate dthrInicio,
+			@Param("dthrFim") LocalDate dthrFim, @Param("nome") String nome,
+			@Param("descricao") String descricao, @Param("status") StatusEnum status,
+			@Param("campo") CampoOrdenacaoExemploEnum campo,
+			@Param("direcao") DirecaoOrdenacaoEnum direcao, @Param("offset") int offset,
+			@Param("limite") int limite);
+
+	/**
+	 * Consulta todos os exemplos que atendem aos filtros de {@link #listagemExemplo}, para
+	 * exportação.
+	 * 
+	 * <p>
+	 * Retorna um {@link Cursor} que lê as linhas sob demanda (em blocos do fetch size definido no
+	 * XML), sem carregar o resultado inteiro em memória. O cursor deve ser percorrido dentro de uma
+	 * transação e fechado ao final; fechá-lo antes do fim encerra a consulta no banco.
+	 * </p>
+	 * 
+	 * @param dthrInicio data de início do período de filtro
+	 * @param dthrFim data de fim do período de filtro
+	 * @param nome nome para filtro (permite busca parcial)
+	 * @param descricao descrição para filtro (permite busca parcial)
+	 * @param status status para filtro (ATIVO ou INATIVO)
+	 * @param campo campo de ordenação
+	 * @param direcao direção da ordenação
+	 * @return Cursor sobre os ExemploDTO encontrados
+	 */
+	public Cursor<ExemploDTO> exportarExemplo(@Param("dthrInicio") LocalDate dthrInicio,
+			@Param("dthrFim") LocalDate dthrFim, @Param("nome") String nome,
+			@Param("descricao") String descricao, @Param("status") StatusEnum status,
+			@Param("campo") CampoOrdenacaoExemploEnum campo,
+			@Param("direcao") DirecaoOrdenacaoEnum direcao);
+
+	/**
+	 * Conta os exemplos que atendem aos filtros de {@link #listagemExemplo}.
+	 * 
+	 * @param dthrInicio data de início do período de filtro
+	 * @param dthrFim data de fim do período de filtro
+	 * @param nome nome para filtro (permite busca parcial)
+	 * @param descricao descrição para filtro (permite busca parcial)
+	 * @param status status para filtro (ATIVO ou INATIVO)
+	 * @return quantidade de exemplos encontrados
+	 */
+	public long contarExemplo(@Param("dthrInicio") LocalDate dthrInicio,
+			@Param("dthrFim") LocalDate dthrFim, @Param("nome") String nome,
+			@Param("descricao") String descricao, @Param("status") StatusEnum status);
+
+	/**
+	 * Atualiza os dados de um exemplo somente se ele ainda estiver na versão informada,
+	 * incrementando a versão.
+	 * 
+	 * <p>
+	 * Executa um único {@code UPDATE ... WHERE id = ? AND versao = ?}, sem leitura prévia. Status
+	 * e ativo não são alterados. Violações de nome único e de referência inexistente são
+	 * lançadas pelo banco como {@code DataIntegrityViolationException}. A escrita não passa pelo
+	 * Hibernate: a entrada do exemplo no cache de segundo nível deve ser removida pelo chamador.
+	 * </p>
+	 * 
+	 * @param exemplo dados do exemplo, com o id e a versão lida pelo cliente
+	 * @return quantidade de linhas atualizadas (0 se o exemplo não existe ou a versão mudou)
+	 */
+	public int atualizarVersionado(ExemploDTO exemplo);
+
+	/**
+	 * Desativa (status INATIVO, ativo false e versão incrementada) até {@code limite} exemplos
+	 * ainda ativos que atendem à seleção.
+	 * 
+	 * <p>
+	 * Todos os critérios são opcionais e combinados com AND. A escrita não passa pelo Hibernate:
+	 * o cache de segundo nível de exemplos deve ser limpo pelo chamador.
+	 * </p>
+	 * 
+	 * @param ids ids dos exemplos (opcional)
+	 * @param dthrInicio data inicial do período de emissão (opcional)
+	 * @param dthrFim data final do período de emissão (opcional)
+	 * @param nome trecho do nome (opcional)
+	 * @param descricao trecho da descrição (opcional)
+	 * @param status status atual (opcional)
+	 * @param referenciaId id da referência (opcional)
+	 * @param limite quantidade máxima de exemplos desativados pelo comando
+	 * @return quantidade de exemplos desativados
+	 */
+	public int desativarExemplos(@Param("ids") List<Long> ids,
+			@Param("dthrInicio") LocalDate dthrInicio, @Param("dthrFim") LocalDate dthrFim,
+			@Param("nome") String nome, @Param("descricao") String descricao,
+			@Param("status") StatusEnum status, @Param("referenciaId") Long referenciaId,
+			@Param("limite") int limite);
+
+	/**
+	 * Remove um exemplo pelo id, sem carregá-lo.
+	 * 
+	 * @param id identificador do exemplo
+	 * @return quantidade de linhas removidas (0 se o exemplo não existe)
+	 */
+	public int deletarExemplo(@Param("id") Long id);
+
+	/**
+	 * Remove até {@code limite} exemplos que atendem à seleção.
+	 * 
+	 * <p>
+	 * Mesmos critérios de {@link #desativarExemplos}. O cache de segundo nível de exemplos deve
+	 * ser limpo pelo chamador.
+	 * </p>
+	 * 
+	 * @param ids ids dos exemplos (opcional)
+	 * @param dthrInicio data inicial do período de emissão (opcional)
+	 * @param dthrFim data final do período de emissão (opcional)
+	 * @param nome trecho do nome (opcional)
+	 * @param descricao trecho da descrição (opcional)
+	 * @param status status atual (opcional)
+	 * @param referenciaId id da referência (opcional)
+	 * @param limite quantidade máxima de exemplos removidos pelo comando
+	 * @return quantidade de exemplos removidos
+	 */
+	public int deletarExemplos(@Param("ids") List<Long> ids,
+			@Param("dthrInicio") LocalDate dthrInicio, @Param("dthrFim") LocalDate dthrFim,
+			@Param("nome") String nome, @Param("descricao") String descricao,
+			@Param("status") StatusEnum status, @Param("referenciaId") Long referenciaId,
+			@Param("limite") int limite);
 
 }
@@ -0,0 +1,70 @@
+package com.crudlandia.models.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache em memória dos identificadores de referências sabidamente existentes.
+ * 
+ * <p>
+ * As referências mudam pouco e são consultadas em toda escrita de Exemplo apenas para confirmar
+ * que existem. Com o id em cache, o serviço associa a referência por proxy
+ * ({@code getReferenceById}) sem executar SELECT. O cache é limitado em quantidade, expira após a
+ * escrita e é invalidado quando uma referência é alterada ou removida (ver
+ * {@link ReferenciaCacheListener}). Apenas resultados positivos são guardados, para que uma
+ * referência recém-criada seja encontrada imediatamente.
+ * </p>
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class ReferenciaCache {
+
+    private final Cache<Long, Boolean> existentes;
+
+    public ReferenciaCache(@Value("${app.cache.referencia.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${app.cache.referencia.ttl-segundos:300}") long ttlSegundos) {
+        this.existentes = Caffeine.newBuilder().maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos)).build();
+    }
+
+    /**
+     * Verifica se a referência está no cache de existentes.
+     * 
+     * @param id identificador da referência
+     * @return true se a referência é sabidamente existente
+     */
+    public boolean contem(Long id) {
+        return id != null && existentes.getIfPresent(id) != null;
+    }
+
+    /**
+     * Registra uma referência como existente.
+     * 
+     * @param id identificador da referência
+     */
+    public void registrar(Long id) {
+        if (id != null) {
+            existentes.put(id, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Remove uma referência do cache.
+     * 
+     * @param id identificador da referência
+     */
+    public void invalidar(Long id) {
+        if (id != null) {
+            existentes.invalidate(id);
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.crudlandia.models.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.crudlandia.models.entities.ReferenciaEntity;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA que invalida o {@link ReferenciaCache} quando uma referência é alterada ou
+ * removida.
+ * 
+ * <p>
+ * É instanciado pelo Hibernate através do contêiner de beans do Spring. Alterações feitas fora do
+ * ciclo de vida das entidades (UPDATE/DELETE em massa ou SQL nativo) não passam por aqui e só são
+ * refletidas após a expiração do cache.
+ * </p>
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class ReferenciaCacheListener {
+
+    @Autowired
+    private ReferenciaCache referenciaCache;
+
+    @PostUpdate
+    @PostRemove
+    public void invalidar(ReferenciaEntity referencia) {
+        referenciaCache.invalidar(referencia.getId());
+    }
+
+}
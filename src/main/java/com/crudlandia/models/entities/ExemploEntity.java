@@ -3,6 +3,8 @@ package com.crudlandia.models.entities;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
@@ -14,12 +16,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 /**
  * Entidade JPA que representa um Exemplo no sistema.
@@ -34,23 +40,54 @@ import jakarta.persistence.Table;
  * DynamicInsert).
  * </p>
  * 
+ * <p>
+ * O identificador é gerado por sequência (com alocação em blocos), o que permite ao Hibernate
+ * agrupar os INSERTs em lotes JDBC. Com {@code IDENTITY} cada INSERT precisaria ser executado
+ * isoladamente para obter o ID gerado.
+ * </p>
+ * 
+ * <p>
+ * A unicidade do nome é garantida pelo índice único {@code uk_exemplos_nome}.
+ * </p>
+ * 
+ * <p>
+ * Os índices compostos {@code (dthr_emissao, id)} e {@code (sequencia, id)} atendem ao filtro por
+ * período e às ordenações aceitas pela listagem (ver {@code CampoOrdenacaoExemploEnum}), com o
+ * {@code id} como desempate.
+ * </p>
+ * 
+ * <p>
+ * A entidade fica no cache de segundo nível (região {@code exemplos}, limitada em tamanho e com
+ * expiração, ver {@code application.conf}), usado pela consulta por ID da API e pelas leituras de
+ * entidade dos caminhos de escrita. Escritas
+ * feitas pelo JPA atualizam o cache automaticamente; escritas feitas fora do Hibernate (MyBatis,
+ * SQL direto) devem remover a entrada da região.
+ * </p>
+ * 
  * @author Crudlandia Team
  * @version 1.0
  * @since 2025-11-01
  */
 @Entity
-@Table(name = "exemplos")
+@Table(name = "exemplos",
+		uniqueConstraints = @UniqueConstraint(name = "uk_exemplos_nome", columnNames = "nome"),
+		indexes = {
+				@Index(name = "idx_exemplos_dthr_emissao_id", columnList = "dthr_emissao, id"),
+				@Index(name = "idx_exemplos_sequencia_id", columnList = "sequencia, id")})
 @DynamicUpdate
 @DynamicInsert
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "exemplos")
 public class ExemploEntity extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exemplos_seq")
+	@SequenceGenerator(name = "exemplos_seq", sequenceName = "exemplos_seq", allocationSize = 50)
 	@Column(name = "id", nullable = false)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
-	@JoinColumn(name = "referencia_id", nullable = false)
+	@JoinColumn(name = "referencia_id", nullable = false,
+			foreignKey = @ForeignKey(name = "fk_exemplos_referencia"))
 	private ReferenciaEntity referencia;
 
 	@Column(name = "nome", nullable = false, length = 80)
@@ -90,7 +127,8 @@ public class ExemploEntity extends BaseEntity {
 	 */
 	public ExemploDTO getDRO() {
 		return new ExemploDTO(this.id, id(this.referencia), this.nome, this.descricao,
-				this.sequencia, this.valor, this.peso, this.dthrEmissao, this.status, this.ativo);
+				this.sequencia, this.valor, this.peso, this.dthrEmissao, this.status, this.ativo,
+				getVersao());
 	}
 
 	public Long getId() {
@@ -1,10 +1,15 @@
 package com.crudlandia.models.entities;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
+import com.crudlandia.models.cache.ReferenciaCacheListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -23,6 +28,11 @@ import jakarta.persistence.Table;
  * DynamicInsert).
  * </p>
  * 
+ * <p>
+ * A entidade fica no cache de segundo nível (região {@code referencias}, ver
+ * {@code application.conf}).
+ * </p>
+ * 
  * @author Crudlandia Team
  * @version 1.0
  * @since 2025-11-01
@@ -31,6 +41,8 @@ import jakarta.persistence.Table;
 @Table(name = "referencias")
 @DynamicUpdate
 @DynamicInsert
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "referencias")
+@EntityListeners(ReferenciaCacheListener.class)
 public class ReferenciaEntity extends BaseEntity {
 
 	@Id
@@ -1,10 +1,14 @@
 package com.crudlandia.models.repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.crudlandia.dtos.ExemploDTO;
 import com.crudlandia.models.entities.ExemploEntity;
 
 /**
@@ -23,17 +27,61 @@ import com.crudlandia.models.entities.ExemploEntity;
 public interface ExemploRepository extends JpaRepository<ExemploEntity, Long> {
 
 	/**
-	 * Busca um exemplo pelo nome.
+	 * Busca apenas o identificador do exemplo com o nome informado.
 	 * 
 	 * <p>
-	 * Este método é utilizado para validar unicidade de nome antes de criar ou atualizar um
-	 * exemplo.
+	 * Utilizado para informar qual exemplo já possui o nome quando a escrita viola o índice único
+	 * de nome.
 	 * </p>
 	 * 
 	 * @param nome nome do exemplo a ser buscado
-	 * @return Optional contendo o ExemploEntity se encontrado, ou vazio
+	 * @return Optional contendo o ID do exemplo se encontrado, ou vazio
 	 */
-	public Optional<ExemploEntity> findByNome(String nome);
+	@Query("select e.id from ExemploEntity e where e.nome = :nome")
+	public Optional<Long> findIdByNome(@Param("nome") String nome);
 
+	/**
+	 * Busca o exemplo já projetado em {@link ExemploDTO}.
+	 * 
+	 * <p>
+	 * A consulta seleciona apenas as colunas do DTO e o constrói diretamente, sem criar a entidade
+	 * no contexto de persistência (sem snapshot para dirty checking nem proxy da referência). A
+	 * referência é lida pela coluna de chave estrangeira, sem join. Não passa pelo cache de segundo
+	 * nível: vai ao banco a cada chamada, e por isso não é usada pela consulta por ID da API.
+	 * </p>
+	 * 
+	 * @param id identificador do exemplo
+	 * @return Optional contendo o ExemploDTO se encontrado, ou vazio
+	 */
+	@Query("select new com.crudlandia.dtos.ExemploDTO(e.id, e.referencia.id, e.nome, e.descricao,"
+			+ " e.sequencia, e.valor, e.peso, e.dthrEmissao, e.status, e.ativo, e.versao)"
+			+ " from ExemploEntity e where e.id = :id")
+	public Optional<ExemploDTO> findDTOById(@Param("id") Long id);
+
+	/**
+	 * Busca apenas a versão do exemplo, sem carregar a entidade.
+	 * 
+	 * <p>
+	 * Utilizado para responder requisições condicionais ({@code If-None-Match}) sem ler a linha
+	 * inteira.
+	 * </p>
+	 * 
+	 * @param id identificador do exemplo
+	 * @return Optional contendo a versão do exemplo se encontrado, ou vazio
+	 */
+	@Query("select e.versao from ExemploEntity e where e.id = :id")
+	public Optional<Integer> findVersaoById(@Param("id") Long id);
+
+	/**
+	 * Busca o primeiro exemplo cujo nome esteja contido na coleção informada.
+	 * 
+	 * <p>
+	 * Utilizado na criação em lote para validar a unicidade de vários nomes em uma única consulta.
+	 * </p>
+	 * 
+	 * @param nomes nomes a serem verificados
+	 * @return Optional contendo um ExemploEntity com nome já existente, ou vazio
+	 */
+	public Optional<ExemploEntity> findFirstByNomeIn(Collection<String> nomes);
 
 }
@@ -1,6 +1,11 @@
 package com.crudlandia.models.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.crudlandia.models.entities.ReferenciaEntity;
@@ -20,4 +25,18 @@ import com.crudlandia.models.entities.ReferenciaEntity;
 @Repository
 public interface ReferenciaRepository extends JpaRepository<ReferenciaEntity, Long> {
 
+	/**
+	 * Retorna, dentre os identificadores informados, apenas os que existem no banco.
+	 * 
+	 * <p>
+	 * Utilizado na criação em lote para validar a existência de várias referências em uma única
+	 * consulta, sem carregar as entidades.
+	 * </p>
+	 * 
+	 * @param ids identificadores a serem verificados
+	 * @return List contendo os identificadores existentes
+	 */
+	@Query("select r.id from ReferenciaEntity r where r.id in :ids")
+	public List<Long> findIdsExistentes(@Param("ids") Collection<Long> ids);
+
 }
@@ -0,0 +1,80 @@
+package com.crudlandia.services.exemplo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.Base64;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.enums.CampoOrdenacaoExemploEnum;
+import com.crudlandia.enums.DirecaoOrdenacaoEnum;
+import com.crudlandia.exceptions.CursorInvalidoException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Cursor da paginação por keyset da listagem de Exemplos.
+ * 
+ * <p>
+ * Guarda o campo e a direção de ordenação, o valor da coluna de ordenação e o id da última linha
+ * entregue. É trafegado para o cliente como um texto opaco (Base64 URL-safe), que deve ser
+ * devolvido sem alterações para obter a próxima página.
+ * </p>
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+final class CursorListagemExemplo {
+
+    private static final String SEPARADOR = "|";
+
+    private final CampoOrdenacaoExemploEnum campo;
+    private final DirecaoOrdenacaoEnum direcao;
+    private final Long id;
+    private final Object valor;
+
+    /**
+     * Gera o cursor que aponta para a linha seguinte ao exemplo informado.
+     * 
+     * @param campo campo de ordenação da listagem
+     * @param direcao direção de ordenação da listagem
+     * @param ultimo último exemplo entregue na página
+     * @return o cursor codificado
+     */
+    static String codificar(CampoOrdenacaoExemploEnum campo, DirecaoOrdenacaoEnum direcao,
+            ExemploDTO ultimo) {
+        // O valor fica por último para que eventuais separadores dentro dele sejam preservados
+        String conteudo = campo.name() + SEPARADOR + direcao.name() + SEPARADOR + ultimo.getId()
+                + SEPARADOR + campo.valorTexto(ultimo);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor gerado por {@link #codificar}.
+     * 
+     * @param cursor cursor recebido do cliente
+     * @return o cursor decodificado
+     * @throws CursorInvalidoException se o cursor não puder ser decodificado
+     */
+    static CursorListagemExemplo decodificar(String cursor) throws CursorInvalidoException {
+        try {
+            String conteudo =
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] partes = conteudo.split("\\" + SEPARADOR, 4);
+            if (partes.length != 4) {
+                throw new CursorInvalidoException(cursor);
+            }
+
+            CampoOrdenacaoExemploEnum campo = CampoOrdenacaoExemploEnum.valueOf(partes[0]);
+            return new CursorListagemExemplo(campo, DirecaoOrdenacaoEnum.valueOf(partes[1]),
+                    Long.valueOf(partes[2]), campo.converterValor(partes[3]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new CursorInvalidoException(cursor);
+        }
+    }
+
+}
@@ -2,10 +2,15 @@ package com.crudlandia.services.exemplo;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import com.crudlandia.controllers.exemplo.request.FiltroLoteExemploRequest;
 import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.dtos.OperacaoLoteDTO;
 import com.crudlandia.exceptions.ExemploNaoEncontradoException;
 import com.crudlandia.exceptions.ExemploNomeDuplicadoException;
+import com.crudlandia.exceptions.ExemploVersaoConflitanteException;
+import com.crudlandia.exceptions.FiltroLoteInvalidoException;
 import com.crudlandia.exceptions.ReferenciaNaoEncontradoException;
 
 /**
@@ -53,14 +58,36 @@ public interface ExemploService {
                         BigDecimal valor, Double peso, LocalDateTime dthrEmissao)
                         throws ReferenciaNaoEncontradoException, ExemploNomeDuplicadoException;
 
+        /**
+         * Cria vários exemplos em uma única transação.
+         * 
+         * <p>
+         * Aplica as mesmas regras de {@link #criar}, porém validando a unicidade dos nomes e a
+         * existência das referências com consultas por conjunto, e inserindo os registros em lotes
+         * JDBC. Se qualquer item for inválido, nenhum exemplo é criado.
+         * </p>
+         * 
+         * @param exemplos dados dos exemplos a serem criados (id e status são ignorados)
+         * @return List contendo os ExemploDTO criados, na mesma ordem da entrada
+         * @throws com.crudlandia.exceptions.ExemploNomeDuplicadoException se algum nome já existir
+         *         ou estiver repetido no lote
+         * @throws com.crudlandia.exceptions.ReferenciaNaoEncontradoException se alguma referência
+         *         não existir
+         */
+        public List<ExemploDTO> criarLote(List<ExemploDTO> exemplos)
+                        throws ReferenciaNaoEncontradoException, ExemploNomeDuplicadoException;
+
         /**
          * Atualiza um exemplo existente.
          * 
          * <p>
-         * Valida se o novo nome não está sendo usado por outro exemplo.
+         * Valida se o novo nome não está sendo usado por outro exemplo. Se {@code versaoEsperada}
+         * for informada, a atualização só é feita se o exemplo ainda estiver nessa versão
+         * (concorrência otimista).
          * </p>
          * 
          * @param id identificador único do exemplo a ser atualizado
+         * @param versaoEsperada versão que o cliente leu por último, ou null para não verificar
          * @param referenciaId identificador da referência associada
          * @param nome novo nome do exemplo
          * @param descricao nova descrição do exemplo
@@ -74,11 +101,66 @@ public interface ExemploService {
          *         uso por outro exemplo
          * @throws com.crudlandia.exceptions.ReferenciaNaoEncontradoException se a referência não
          *         existir
+         * @throws com.crudlandia.exceptions.ExemploVersaoConflitanteException se o exemplo não
+         *         estiver na versão esperada ou for alterado por outra transação durante a
+         *         atualização
          */
-        public ExemploDTO atualizar(Long id, Long referenciaId, String nome, String descricao,
-                        Integer sequencia, BigDecimal valor, Double peso, LocalDateTime dthrEmissao)
+        public ExemploDTO atualizar(Long id, Integer versaoEsperada, Long referenciaId, String nome,
+                        String descricao, Integer sequencia, BigDecimal valor, Double peso,
+                        LocalDateTime dthrEmissao)
                         throws ExemploNaoEncontradoException, ReferenciaNaoEncontradoException,
-                        ExemploNomeDuplicadoException;
+                        ExemploNomeDuplicadoException, ExemploVersaoConflitanteException;
+
+        /**
+         * Atualiza um exemplo existente somente se ele ainda estiver na versão informada.
+         * 
+         * <p>
+         * Diferente de {@link #atualizar}, não lê o exemplo nem a referência antes da escrita: a
+         * atualização é feita em um único comando condicionado pelo id e pela versão, e a
+         * existência da referência e a unicidade do nome são garantidas pelas restrições do banco.
+         * Consultas adicionais só são feitas no caminho de erro. Status e ativo não são alterados.
+         * </p>
+         * 
+         * @param id identificador único do exemplo a ser atualizado
+         * @param versao versão que o cliente leu por último
+         * @param referenciaId identificador da referência associada
+         * @param nome novo nome do exemplo
+         * @param descricao nova descrição do exemplo
+         * @param sequencia nova sequência
+         * @param valor novo valor
+         * @param peso novo peso
+         * @param dthrEmissao nova data/hora de emissão
+         * @return a nova versão do exemplo
+         * @throws com.crudlandia.exceptions.ExemploNaoEncontradoException se o exemplo não existir
+         * @throws com.crudlandia.exceptions.ExemploNomeDuplicadoException se o nome já estiver em
+         *         uso por outro exemplo
+         * @throws com.crudlandia.exceptions.ReferenciaNaoEncontradoException se a referência não
+         *         existir
+         * @throws com.crudlandia.exceptions.ExemploVersaoConflitanteException se o exemplo não
+         *         estiver mais na versão informada
+         */
+        public Integer atualizarVersionado(Long id, Integer versao, Long referenciaId, String nome,
+                        String descricao, Integer sequencia, BigDecimal valor, Double peso,
+                        LocalDateTime dthrEmissao)
+                        throws ExemploNaoEncontradoException, ReferenciaNaoEncontradoException,
+                        ExemploNomeDuplicadoException, ExemploVersaoConflitanteException;
+
+        /**
+         * Desativa, em lote, os exemplos selecionados por ids e/ou filtros.
+         * 
+         * <p>
+         * Os exemplos são alterados diretamente no banco, em blocos de tamanho limitado, sem
+         * serem carregados: status passa a INATIVO, ativo a false e a versão é incrementada.
+         * Exemplos já inativos não são alterados nem contados.
+         * </p>
+         * 
+         * @param filtro seleção dos exemplos (ids ou período obrigatórios)
+         * @return quantidade de exemplos desativados
+         * @throws com.crudlandia.exceptions.FiltroLoteInvalidoException se não forem informados
+         *         ids nem o período completo
+         */
+        public OperacaoLoteDTO desativarLote(FiltroLoteExemploRequest filtro)
+                        throws FiltroLoteInvalidoException;
 
         /**
          * Busca um exemplo por seu identificador único.
@@ -89,6 +171,15 @@ public interface ExemploService {
          */
         public ExemploDTO buscarPorId(Long id) throws ExemploNaoEncontradoException;
 
+        /**
+         * Busca apenas a versão atual de um exemplo, sem carregar seus dados.
+         * 
+         * @param id identificador único do exemplo
+         * @return versão atual do exemplo
+         * @throws com.crudlandia.exceptions.ExemploNaoEncontradoException se o exemplo não existir
+         */
+        public Integer buscarVersao(Long id) throws ExemploNaoEncontradoException;
+
         /**
          * Deleta um exemplo do sistema.
          * 
@@ -97,6 +188,22 @@ public interface ExemploService {
          */
         public void deletar(Long id) throws ExemploNaoEncontradoException;
 
+        /**
+         * Deleta, em lote, os exemplos selecionados por ids e/ou filtros.
+         * 
+         * <p>
+         * Os exemplos são removidos diretamente no banco, em blocos de tamanho limitado, sem
+         * serem carregados.
+         * </p>
+         * 
+         * @param filtro seleção dos exemplos (ids ou período obrigatórios)
+         * @return quantidade de exemplos deletados
+         * @throws com.crudlandia.exceptions.FiltroLoteInvalidoException se não forem informados
+         *         ids nem o período completo
+         */
+        public OperacaoLoteDTO deletarLote(FiltroLoteExemploRequest filtro)
+                        throws FiltroLoteInvalidoException;
+
         public void desativar(Long id) throws ExemploNaoEncontradoException;
 
 
@@ -2,22 +2,52 @@ package com.crudlandia.services.exemplo;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.crudlandia.controllers.exemplo.request.FiltroLoteExemploRequest;
 import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.dtos.OperacaoLoteDTO;
 import com.crudlandia.enums.StatusEnum;
 import com.crudlandia.exceptions.ExemploNaoEncontradoException;
 import com.crudlandia.exceptions.ExemploNomeDuplicadoException;
+import com.crudlandia.exceptions.ExemploVersaoConflitanteException;
+import com.crudlandia.exceptions.FiltroLoteInvalidoException;
 import com.crudlandia.exceptions.ReferenciaNaoEncontradoException;
+import com.crudlandia.mappers.ExemploMapper;
+import com.crudlandia.models.cache.ReferenciaCache;
 import com.crudlandia.models.entities.ExemploEntity;
 import com.crudlandia.models.entities.ReferenciaEntity;
 import com.crudlandia.models.repository.ExemploRepository;
 import com.crudlandia.models.repository.ReferenciaRepository;
 
+import io.micrometer.core.annotation.Timed;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
 /**
  * Implementação do serviço de negócio para operações relacionadas a Exemplos.
  * 
@@ -36,38 +66,59 @@ import com.crudlandia.models.repository.ReferenciaRepository;
  * @see ExemploService
  */
 @Service
+@Timed(value = "exemplo.service", histogram = true)
 @Transactional
 public class ExemploServiceImpl implements ExemploService {
 
+    /**
+     * Quantidade máxima de valores por cláusula IN nas validações da criação em lote.
+     */
+    private static final int TAMANHO_BLOCO_CONSULTA = 1000;
+
     @Autowired
     private ExemploRepository exemploRepository;
 
+    @Autowired
+    private ExemploMapper exemploMapper;
+
     @Autowired
     protected ReferenciaRepository referenciaRepository;
 
+    @Autowired
+    private ReferenciaCache referenciaCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int tamanhoLote;
+
+    @Value("${app.exemplo.lote.tamanho-bloco:1000}")
+    private int tamanhoBlocoLote;
+
     /**
      * {@inheritDoc}
      * 
      * <p>
-     * Implementação que valida nome único, busca a referência no banco, e define status ATIVO
-     * automaticamente na criação.
+     * Implementação que resolve a referência (pelo cache de referências existentes ou no banco) e
+     * define status ATIVO automaticamente na criação. A unicidade do nome não é consultada antes
+     * do INSERT: é garantida pelo índice único de nome, e a violação é convertida em
+     * {@link ExemploNomeDuplicadoException}.
      * </p>
      * 
      * @throws ReferenciaNaoEncontradoException
      * @throws ExemploNomeDuplicadoException
      */
+    @Transactional(rollbackFor = {ExemploNomeDuplicadoException.class,
+            ReferenciaNaoEncontradoException.class})
     public ExemploDTO criar(Long referenciaId, String nome, String descricao, Integer sequencia,
             BigDecimal valor, Double peso, LocalDateTime dthrEmissao)
             throws ReferenciaNaoEncontradoException, ExemploNomeDuplicadoException {
 
-        // Validar se já existe exemplo com o mesmo nome
-        Optional<ExemploEntity> exemploExistente = exemploRepository.findByNome(nome);
-        if (exemploExistente.isPresent()) {
-            throw new ExemploNomeDuplicadoException(nome, exemploExistente.get().getId());
-        }
-
-        ReferenciaEntity referencia = referenciaRepository.findById(referenciaId)
-                .orElseThrow(() -> new ReferenciaNaoEncontradoException(referenciaId));
+        ReferenciaEntity referencia = resolverReferencia(referenciaId);
 
         ExemploEntity entity = new ExemploEntity();
         entity.setReferencia(referencia);
@@ -82,7 +133,9 @@ public class ExemploServiceImpl implements ExemploService {
         entity.setStatus(StatusEnum.ATIVO);
         entity.setAtivo(true);
 
-        ExemploEntity saved = exemploRepository.save(entity);
+        // Flush imediato: com ID por sequência o INSERT seria adiado até o commit, e consultas
+        // MyBatis na mesma transação não enxergariam o registro
+        ExemploEntity saved = salvar(entity);
         return saved.getDRO();
     }
 
@@ -90,34 +143,123 @@ public class ExemploServiceImpl implements ExemploService {
      * {@inheritDoc}
      * 
      * <p>
-     * Implementação que valida se o exemplo existe, verifica duplicidade de nome com outros
-     * exemplos, e atualiza todos os campos.
+     * Implementação que valida os nomes (no lote e no banco) e as referências com consultas IN em
+     * blocos, associa as referências por proxy ({@code getReferenceById}, sem SELECT) e persiste as
+     * entidades descarregando o contexto de persistência a cada {@code tamanhoLote} registros, para
+     * que os INSERTs sejam enviados em lotes JDBC e a memória permaneça limitada.
+     * </p>
+     * 
+     * <p>
+     * Um nome criado por outra transação depois da validação, ou uma referência removida enquanto
+     * estava no cache, só são detectados no envio dos INSERTs, pelas restrições do banco, e
+     * também resultam nas exceções de negócio. Em qualquer uma delas nenhum exemplo é criado.
      * </p>
      * 
-     * @throws ExemploNaoEncontradoException
      * @throws ReferenciaNaoEncontradoException
      * @throws ExemploNomeDuplicadoException
      */
-    public ExemploDTO atualizar(Long id, Long referenciaId, String nome, String descricao,
-            Integer sequencia, BigDecimal valor, Double peso, LocalDateTime dthrEmissao)
-            throws ExemploNaoEncontradoException, ReferenciaNaoEncontradoException,
-            ExemploNomeDuplicadoException {
+    @Transactional(rollbackFor = {ExemploNomeDuplicadoException.class,
+            ReferenciaNaoEncontradoException.class})
+    public List<ExemploDTO> criarLote(List<ExemploDTO> exemplos)
+            throws ReferenciaNaoEncontradoException, ExemploNomeDuplicadoException {
 
-        ExemploEntity entity = exemploRepository.findById(id)
-                .orElseThrow(() -> new ExemploNaoEncontradoException(id));
+        // Validar se há nomes repetidos dentro do próprio lote
+        Set<String> nomes = new LinkedHashSet<>();
+        Set<Long> referenciaIds = new HashSet<>();
+        for (ExemploDTO exemplo : exemplos) {
+            if (!nomes.add(exemplo.getNome())) {
+                throw new ExemploNomeDuplicadoException(exemplo.getNome());
+            }
+            referenciaIds.add(exemplo.getReferenciaId());
+        }
 
-        // Validar se já existe outro exemplo com o mesmo nome
-        Optional<ExemploEntity> exemploExistente = exemploRepository.findByNome(nome);
-        if (exemploExistente.isPresent()) {
-            if (!exemploExistente.get().getId().equals(id)) {
-                throw new ExemploNomeDuplicadoException(nome, exemploExistente.get().getId());
+        // Validar se já existe exemplo com algum dos nomes
+        for (List<String> bloco : particionar(new ArrayList<>(nomes), TAMANHO_BLOCO_CONSULTA)) {
+            Optional<ExemploEntity> exemploExistente = exemploRepository.findFirstByNomeIn(bloco);
+            if (exemploExistente.isPresent()) {
+                throw new ExemploNomeDuplicadoException(exemploExistente.get().getNome(),
+                        exemploExistente.get().getId());
             }
         }
 
+        // Validar se todas as referências existem (consultando apenas as que não estão em cache)
+        referenciaIds.removeIf(referenciaCache::contem);
+        Set<Long> referenciasExistentes = new HashSet<>();
+        for (List<Long> bloco : particionar(new ArrayList<>(referenciaIds),
+                TAMANHO_BLOCO_CONSULTA)) {
+            referenciasExistentes.addAll(referenciaRepository.findIdsExistentes(bloco));
+        }
+        for (Long referenciaId : referenciaIds) {
+            if (!referenciasExistentes.contains(referenciaId)) {
+                throw new ReferenciaNaoEncontradoException(referenciaId);
+            }
+            referenciaCache.registrar(referenciaId);
+        }
 
+        List<ExemploDTO> criados = new ArrayList<>(exemplos.size());
+        List<ExemploEntity> pendentes = new ArrayList<>(tamanhoLote);
+        for (ExemploDTO exemplo : exemplos) {
+            ExemploEntity entity = new ExemploEntity();
+            entity.setReferencia(referenciaRepository.getReferenceById(exemplo.getReferenciaId()));
+            entity.setNome(exemplo.getNome());
+            entity.setDescricao(exemplo.getDescricao());
+            entity.setSequencia(exemplo.getSequencia());
+            entity.setValor(exemplo.getValor());
+            entity.setPeso(exemplo.getPeso());
+            entity.setDthrEmissao(exemplo.getDthrEmissao() != null ? exemplo.getDthrEmissao()
+                    : LocalDateTime.now());
 
-        ReferenciaEntity referencia = referenciaRepository.findById(referenciaId)
-                .orElseThrow(() -> new ReferenciaNaoEncontradoException(referenciaId));
+            // Status sempre ATIVO na criação
+            entity.setStatus(StatusEnum.ATIVO);
+            entity.setAtivo(true);
+
+            entityManager.persist(entity);
+            pendentes.add(entity);
+
+            if (pendentes.size() >= tamanhoLote) {
+                descarregarLote(pendentes, criados);
+            }
+        }
+        descarregarLote(pendentes, criados);
+
+        return criados;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Implementação que valida se o exemplo existe e atualiza todos os campos. A duplicidade de
+     * nome com outros exemplos é detectada pelo índice único de nome no momento do UPDATE.
+     * </p>
+     * 
+     * <p>
+     * A versão esperada é comparada com a versão carregada; além disso, o UPDATE gerado pelo
+     * Hibernate filtra pela versão carregada ({@code @Version}), de modo que uma alteração
+     * concorrente entre a leitura e a escrita também resulta em
+     * {@link ExemploVersaoConflitanteException}.
+     * </p>
+     * 
+     * @throws ExemploNaoEncontradoException
+     * @throws ReferenciaNaoEncontradoException
+     * @throws ExemploNomeDuplicadoException
+     * @throws ExemploVersaoConflitanteException
+     */
+    @Transactional(rollbackFor = {ExemploNomeDuplicadoException.class,
+            ReferenciaNaoEncontradoException.class, ExemploVersaoConflitanteException.class})
+    public ExemploDTO atualizar(Long id, Integer versaoEsperada, Long referenciaId, String nome,
+            String descricao, Integer sequencia, BigDecimal valor, Double peso,
+            LocalDateTime dthrEmissao) throws ExemploNaoEncontradoException,
+            ReferenciaNaoEncontradoException, ExemploNomeDuplicadoException,
+            ExemploVersaoConflitanteException {
+
+        ExemploEntity entity = exemploRepository.findById(id)
+                .orElseThrow(() -> new ExemploNaoEncontradoException(id));
+        if (versaoEsperada != null && !versaoEsperada.equals(entity.getVersao())) {
+            throw new ExemploVersaoConflitanteException(id);
+        }
+
+        ReferenciaEntity referencia = resolverReferencia(referenciaId);
 
         entity.setReferencia(referencia);
         entity.setNome(nome);
@@ -127,34 +269,125 @@ public class ExemploServiceImpl implements ExemploService {
         entity.setPeso(peso);
         entity.setDthrEmissao(dthrEmissao);
 
-        ExemploEntity updated = exemploRepository.save(entity);
-        return updated.getDRO();
+        try {
+            ExemploEntity updated = salvar(entity);
+            return updated.getDRO();
+        } catch (OptimisticLockingFailureException ex) {
+            throw new ExemploVersaoConflitanteException(id);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Implementação que executa um único {@code UPDATE ... WHERE id = ? AND versao = ?} pelo
+     * MyBatis. Se nenhuma linha for atualizada, a versão atual é consultada para distinguir
+     * exemplo inexistente de versão conflitante. Como a escrita não passa pelo Hibernate, a
+     * entrada do exemplo no cache de segundo nível é removida logo após o UPDATE e novamente após
+     * o commit, para que nenhuma leitura concorrente a repovoe com a versão anterior.
+     * </p>
+     * 
+     * @throws ExemploNaoEncontradoException
+     * @throws ReferenciaNaoEncontradoException
+     * @throws ExemploNomeDuplicadoException
+     * @throws ExemploVersaoConflitanteException
+     */
+    @Transactional(rollbackFor = {ExemploNomeDuplicadoException.class,
+            ReferenciaNaoEncontradoException.class, ExemploVersaoConflitanteException.class})
+    public Integer atualizarVersionado(Long id, Integer versao, Long referenciaId, String nome,
+            String descricao, Integer sequencia, BigDecimal valor, Double peso,
+            LocalDateTime dthrEmissao) throws ExemploNaoEncontradoException,
+            ReferenciaNaoEncontradoException, ExemploNomeDuplicadoException,
+            ExemploVersaoConflitanteException {
+
+        ExemploDTO exemplo = new ExemploDTO(id, referenciaId, nome, descricao, sequencia, valor,
+                peso, dthrEmissao, null, null, versao);
+
+        int atualizados;
+        try {
+            atualizados = exemploMapper.atualizarVersionado(exemplo);
+        } catch (DataIntegrityViolationException e) {
+            throw traduzirViolacao(e, nome, referenciaId);
+        }
+
+        if (atualizados == 0) {
+            if (exemploRepository.findVersaoById(id).isEmpty()) {
+                throw new ExemploNaoEncontradoException(id);
+            }
+            throw new ExemploVersaoConflitanteException(id);
+        }
+
+        removerDoCache(id);
+        return versao + 1;
     }
 
     /**
      * {@inheritDoc}
      * 
+     * <p>
+     * Implementação que lê a entidade pelo cache de segundo nível (região {@code exemplos}), indo
+     * ao banco apenas quando ela não está no cache, em transação somente leitura: a entidade é
+     * carregada sem snapshot para dirty checking, e a referência, que não é inicializada, só
+     * fornece o ID. O cache é atualizado por todas as escritas, então a versão devolvida é a
+     * mesma do banco.
+     * </p>
+     * 
      * @throws ExemploNaoEncontradoException
      */
+    @Transactional(readOnly = true)
     public ExemploDTO buscarPorId(Long id) throws ExemploNaoEncontradoException {
-        ExemploEntity entity = exemploRepository.findById(id)
+        return exemploRepository.findById(id).map(ExemploEntity::getDRO)
+                .orElseThrow(() -> new ExemploNaoEncontradoException(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws ExemploNaoEncontradoException
+     */
+    @Transactional(readOnly = true)
+    public Integer buscarVersao(Long id) throws ExemploNaoEncontradoException {
+        return exemploRepository.findVersaoById(id)
                 .orElseThrow(() -> new ExemploNaoEncontradoException(id));
-        return entity.getDRO();
     }
 
     /**
      * {@inheritDoc}
      * 
      * <p>
-     * Implementação que valida se o exemplo existe antes de deletar.
+     * Implementação que executa um único {@code DELETE ... WHERE id = ?} pelo MyBatis, sem
+     * carregar o exemplo: se nenhuma linha for removida, o exemplo não existe. O exemplo é
+     * removido do cache de segundo nível.
      * </p>
      * 
      * @throws ExemploNaoEncontradoException
      */
     public void deletar(Long id) throws ExemploNaoEncontradoException {
-        ExemploEntity entity = exemploRepository.findById(id)
-                .orElseThrow(() -> new ExemploNaoEncontradoException(id));
-        exemploRepository.delete(entity);
+        if (exemploMapper.deletarExemplo(id) == 0) {
+            throw new ExemploNaoEncontradoException(id);
+        }
+        removerDoCache(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Implementação que executa DELETEs pelo MyBatis de no máximo {@code tamanhoBlocoLote}
+     * exemplos cada, um por transação quando chamada fora de uma transação, da mesma forma que
+     * {@link #desativarLote}.
+     * </p>
+     * 
+     * @throws FiltroLoteInvalidoException
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OperacaoLoteDTO deletarLote(FiltroLoteExemploRequest filtro)
+            throws FiltroLoteInvalidoException {
+        return executarEmBlocos(filtro, ids -> exemploMapper.deletarExemplos(ids,
+                filtro.getDthrInicio(), filtro.getDthrFim(), filtro.getNome(),
+                filtro.getDescricao(), filtro.getStatus(), filtro.getReferenciaId(),
+                tamanhoBlocoLote));
     }
 
 
@@ -164,5 +397,295 @@ public class ExemploServiceImpl implements ExemploService {
         entity.setStatus(StatusEnum.INATIVO);
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Implementação que executa UPDATEs pelo MyBatis de no máximo {@code tamanhoBlocoLote}
+     * exemplos cada, um por transação quando chamada fora de uma transação (caso do
+     * controller), para que os bloqueios sejam liberados a cada bloco. Com ids, cada bloco de
+     * ids gera um comando; apenas com filtros, o comando é repetido até alterar menos exemplos
+     * que o tamanho do bloco. As entradas de exemplos do cache de segundo nível são removidas a
+     * cada bloco.
+     * </p>
+     * 
+     * @throws FiltroLoteInvalidoException
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OperacaoLoteDTO desativarLote(FiltroLoteExemploRequest filtro)
+            throws FiltroLoteInvalidoException {
+        return executarEmBlocos(filtro, ids -> exemploMapper.desativarExemplos(ids,
+                filtro.getDthrInicio(), filtro.getDthrFim(), filtro.getNome(),
+                filtro.getDescricao(), filtro.getStatus(), filtro.getReferenciaId(),
+                tamanhoBlocoLote));
+    }
+
+    /**
+     * Executa um comando em lote, em blocos de no máximo {@code tamanhoBlocoLote} exemplos.
+     * 
+     * <p>
+     * Cada bloco é executado em sua própria transação (ou na transação do chamador, se houver) e
+     * remove os exemplos do cache de segundo nível. Com ids, o comando é executado uma vez por
+     * bloco de ids; sem ids, é repetido enquanto alterar um bloco completo, e por isso deve
+     * alterar apenas exemplos que ainda não foram alterados por ele.
+     * </p>
+     * 
+     * @param filtro seleção dos exemplos
+     * @param comando comando que recebe o bloco de ids (ou null) e retorna a quantidade alterada
+     * @return quantidade total de exemplos alterados e de blocos executados
+     * @throws FiltroLoteInvalidoException se não forem informados ids nem o período completo
+     */
+    private OperacaoLoteDTO executarEmBlocos(FiltroLoteExemploRequest filtro,
+            Function<List<Long>, Integer> comando) throws FiltroLoteInvalidoException {
+        boolean porIds = filtro.getIds() != null && !filtro.getIds().isEmpty();
+        if (!porIds && (filtro.getDthrInicio() == null || filtro.getDthrFim() == null)) {
+            throw new FiltroLoteInvalidoException();
+        }
+
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        Function<List<Long>, Integer> bloco = ids -> transacao.execute(status -> {
+            int alterados = comando.apply(ids);
+            removerDoCache(null);
+            return alterados;
+        });
+
+        long afetados = 0;
+        int blocos = 0;
+        if (porIds) {
+            List<Long> ids = new ArrayList<>(new LinkedHashSet<>(filtro.getIds()));
+            for (List<Long> idsBloco : particionar(ids, tamanhoBlocoLote)) {
+                afetados += bloco.apply(idsBloco);
+                blocos++;
+            }
+        } else {
+            int alterados;
+            do {
+                alterados = bloco.apply(null);
+                afetados += alterados;
+                blocos++;
+            } while (alterados >= tamanhoBlocoLote);
+        }
+        return new OperacaoLoteDTO(afetados, blocos);
+    }
+
+    /**
+     * Resolve a referência a ser associada a um exemplo.
+     * 
+     * <p>
+     * Se a referência estiver no cache de existentes, retorna um proxy ({@code getReferenceById})
+     * sem consultar o banco; caso contrário busca a referência e a registra no cache.
+     * </p>
+     * 
+     * @param referenciaId identificador da referência
+     * @return a referência (entidade ou proxy)
+     * @throws ReferenciaNaoEncontradoException se a referência não existir
+     */
+    private ReferenciaEntity resolverReferencia(Long referenciaId)
+            throws ReferenciaNaoEncontradoException {
+        if (referenciaCache.contem(referenciaId)) {
+            return referenciaRepository.getReferenceById(referenciaId);
+        }
+        ReferenciaEntity referencia = referenciaRepository.findById(referenciaId)
+                .orElseThrow(() -> new ReferenciaNaoEncontradoException(referenciaId));
+        referenciaCache.registrar(referencia.getId());
+        return referencia;
+    }
+
+    /**
+     * Salva a entidade e envia a escrita ao banco imediatamente, convertendo violações de
+     * restrições em exceções de negócio.
+     * 
+     * <p>
+     * A violação do índice único de nome gera {@link ExemploNomeDuplicadoException}, com o ID do
+     * exemplo que já possui o nome. Como a transação não pode mais ser usada após a violação (no
+     * PostgreSQL ela fica abortada), o ID é consultado em uma transação própria (ver
+     * {@link #buscarIdPorNome}).
+     * </p>
+     * 
+     * <p>
+     * A violação da chave estrangeira de referência (referência removida enquanto estava no cache)
+     * gera {@link ReferenciaNaoEncontradoException} e remove a referência do cache.
+     * </p>
+     * 
+     * @param entity entidade a ser salva
+     * @return a entidade salva
+     * @throws ExemploNomeDuplicadoException se já existir outro exemplo com o mesmo nome
+     * @throws ReferenciaNaoEncontradoException se a referência associada não existir
+     */
+    private ExemploEntity salvar(ExemploEntity entity)
+            throws ExemploNomeDuplicadoException, ReferenciaNaoEncontradoException {
+        try {
+            return exemploRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw traduzirViolacao(e, entity.getNome(), entity.getReferencia().getId());
+        }
+    }
+
+    /**
+     * Converte a violação de uma restrição da tabela de exemplos na exceção de negócio
+     * correspondente.
+     * 
+     * @param e violação lançada pela escrita
+     * @param nome nome do exemplo sendo escrito
+     * @param referenciaId identificador da referência associada
+     * @return a própria violação, quando não corresponde a nenhuma regra de negócio
+     * @throws ExemploNomeDuplicadoException se o índice único de nome foi violado
+     * @throws ReferenciaNaoEncontradoException se a chave estrangeira de referência foi violada
+     */
+    private DataIntegrityViolationException traduzirViolacao(DataIntegrityViolationException e,
+            String nome, Long referenciaId)
+            throws ExemploNomeDuplicadoException, ReferenciaNaoEncontradoException {
+        if (RestricoesExemplo.violou(e, RestricoesExemplo.NOME_UNICO)) {
+            throw new ExemploNomeDuplicadoException(nome, buscarIdPorNome(nome));
+        }
+        if (RestricoesExemplo.violou(e, RestricoesExemplo.REFERENCIA_EXISTENTE)) {
+            referenciaCache.invalidar(referenciaId);
+            throw new ReferenciaNaoEncontradoException(referenciaId);
+        }
+        return e;
+    }
+
+    /**
+     * Converte a violação de uma restrição no envio de um lote de INSERTs na exceção de negócio
+     * correspondente.
+     * 
+     * <p>
+     * O banco não informa qual linha do lote violou a restrição: o exemplo existente é procurado
+     * entre todos os nomes do lote (em transação própria, como em {@link #traduzirViolacao}), e
+     * todas as referências do lote são removidas do cache.
+     * </p>
+     * 
+     * @param e violação lançada pelo envio do lote
+     * @param pendentes entidades do lote
+     * @return a própria violação, quando não corresponde a nenhuma regra de negócio
+     * @throws ExemploNomeDuplicadoException se o índice único de nome foi violado
+     * @throws ReferenciaNaoEncontradoException se a chave estrangeira de referência foi violada
+     */
+    private DataIntegrityViolationException traduzirViolacaoLote(
+            DataIntegrityViolationException e, List<ExemploEntity> pendentes)
+            throws ExemploNomeDuplicadoException, ReferenciaNaoEncontradoException {
+        if (RestricoesExemplo.violou(e, RestricoesExemplo.NOME_UNICO)) {
+            List<String> nomes = pendentes.stream().map(ExemploEntity::getNome).toList();
+            throw new ExemploNomeDuplicadoException(null, buscarIdPorNomes(nomes));
+        }
+        if (RestricoesExemplo.violou(e, RestricoesExemplo.REFERENCIA_EXISTENTE)) {
+            Set<Long> referenciaIds = new LinkedHashSet<>();
+            for (ExemploEntity entity : pendentes) {
+                referenciaIds.add(entity.getReferencia().getId());
+            }
+            referenciaIds.forEach(referenciaCache::invalidar);
+            throw new ReferenciaNaoEncontradoException(
+                    referenciaIds.size() == 1 ? referenciaIds.iterator().next() : null);
+        }
+        return e;
+    }
+
+    /**
+     * Remove exemplos do cache de segundo nível, imediatamente e após o commit da transação.
+     * 
+     * <p>
+     * Necessário após escritas feitas fora do Hibernate (MyBatis), que não atualizam o cache.
+     * </p>
+     * 
+     * @param id identificador do exemplo, ou null para remover todos os exemplos
+     */
+    private void removerDoCache(Long id) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        Runnable remover = id != null ? () -> cache.evict(ExemploEntity.class, id)
+                : () -> cache.evict(ExemploEntity.class);
+        remover.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            remover.run();
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Consulta o ID do exemplo que possui o nome, para {@link ExemploNomeDuplicadoException}.
+     * 
+     * <p>
+     * A transação que violou o índice está abortada (PostgreSQL), então a consulta é feita em uma
+     * nova transação somente leitura ({@code REQUIRES_NEW}), com outra conexão, enquanto a
+     * original fica suspensa até o rollback. Se a consulta falhar (por exemplo, sem conexão
+     * disponível no pool ou no {@code SemaforoDataSource}), o ID fica desconhecido, mas a exceção
+     * de negócio é lançada normalmente.
+     * </p>
+     * 
+     * @param nome nome duplicado
+     * @return ID do exemplo existente, ou null se não for possível consultá-lo
+     */
+    private Long buscarIdPorNome(String nome) {
+        return consultarAposFalha(() -> exemploRepository.findIdByNome(nome).orElse(null));
+    }
+
+    /**
+     * Como {@link #buscarIdPorNome}, para o primeiro dos nomes que já existir.
+     * 
+     * @param nomes nomes do lote que violou o índice único
+     * @return ID de um exemplo existente com um dos nomes, ou null
+     */
+    private Long buscarIdPorNomes(List<String> nomes) {
+        return consultarAposFalha(() -> exemploRepository.findFirstByNomeIn(nomes)
+                .map(ExemploEntity::getId).orElse(null));
+    }
+
+    private Long consultarAposFalha(Supplier<Long> consulta) {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        transacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transacao.setReadOnly(true);
+        try {
+            return transacao.execute(status -> consulta.get());
+        } catch (DataAccessException | TransactionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Envia ao banco os INSERTs pendentes (em lote JDBC), converte as entidades para DTO e limpa o
+     * contexto de persistência.
+     * 
+     * @param pendentes entidades persistidas e ainda não descarregadas
+     * @param criados lista que recebe os DTOs das entidades descarregadas
+     * @throws ExemploNomeDuplicadoException se o índice único de nome for violado
+     * @throws ReferenciaNaoEncontradoException se alguma referência não existir mais
+     */
+    private void descarregarLote(List<ExemploEntity> pendentes, List<ExemploDTO> criados)
+            throws ExemploNomeDuplicadoException, ReferenciaNaoEncontradoException {
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        try {
+            // Pelo repositório, para que a falha chegue convertida em exceção do Spring
+            exemploRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw traduzirViolacaoLote(e, pendentes);
+        }
+        for (ExemploEntity entity : pendentes) {
+            criados.add(entity.getDRO());
+        }
+        entityManager.clear();
+        pendentes.clear();
+    }
+
+    /**
+     * Divide uma lista em sublistas de no máximo {@code tamanho} elementos.
+     * 
+     * @param <T> tipo dos elementos
+     * @param lista lista a ser dividida
+     * @param tamanho quantidade máxima de elementos por sublista
+     * @return List contendo as sublistas
+     */
+    private static <T> List<List<T>> particionar(List<T> lista, int tamanho) {
+        List<List<T>> blocos = new ArrayList<>();
+        for (int inicio = 0; inicio < lista.size(); inicio += tamanho) {
+            blocos.add(lista.subList(inicio, Math.min(inicio + tamanho, lista.size())));
+        }
+        return blocos;
+    }
 
 }
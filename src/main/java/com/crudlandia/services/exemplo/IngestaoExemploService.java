@@ -0,0 +1,67 @@
+package com.crudlandia.services.exemplo;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.crudlandia.dtos.IngestaoExemploDTO;
+import com.crudlandia.exceptions.ExemploInvalidoException;
+import com.crudlandia.exceptions.FilaIngestaoCheiaException;
+import com.crudlandia.exceptions.IngestaoNaoEncontradaException;
+import com.crudlandia.exceptions.ReferenciaNaoEncontradoException;
+
+/**
+ * Interface de serviço para a criação assíncrona de Exemplos.
+ * 
+ * <p>
+ * Os exemplos recebidos são validados e colocados em uma fila em memória de capacidade limitada;
+ * um escritor em segundo plano retira os exemplos da fila e os cria em lotes, cada lote em uma
+ * transação. A situação de cada exemplo enfileirado pode ser consultada pelo identificador de
+ * acompanhamento.
+ * </p>
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface IngestaoExemploService {
+
+        /**
+         * Valida e enfileira um exemplo para criação.
+         * 
+         * <p>
+         * Valida aqui apenas o que não depende de outros exemplos (campos obrigatórios e existência
+         * da referência); a unicidade do nome é verificada na criação, e a violação é registrada
+         * na situação do exemplo.
+         * </p>
+         * 
+         * @param referenciaId identificador da referência associada
+         * @param nome nome do exemplo
+         * @param descricao descrição do exemplo
+         * @param sequencia sequência
+         * @param valor valor
+         * @param peso peso
+         * @param dthrEmissao data/hora de emissão (se nula, a data/hora da criação)
+         * @return IngestaoExemploDTO com o identificador de acompanhamento e situação PENDENTE
+         * @throws com.crudlandia.exceptions.ExemploInvalidoException se a referência ou o nome não
+         *         forem informados
+         * @throws com.crudlandia.exceptions.ReferenciaNaoEncontradoException se a referência não
+         *         existir
+         * @throws com.crudlandia.exceptions.FilaIngestaoCheiaException se a fila estiver cheia ou a
+         *         aplicação estiver encerrando
+         */
+        public IngestaoExemploDTO enfileirar(Long referenciaId, String nome, String descricao,
+                        Integer sequencia, BigDecimal valor, Double peso, LocalDateTime dthrEmissao)
+                        throws ExemploInvalidoException, ReferenciaNaoEncontradoException,
+                        FilaIngestaoCheiaException;
+
+        /**
+         * Consulta a situação de um exemplo enfileirado.
+         * 
+         * @param id identificador de acompanhamento devolvido por {@link #enfileirar}
+         * @return IngestaoExemploDTO com a situação atual
+         * @throws com.crudlandia.exceptions.IngestaoNaoEncontradaException se o identificador não
+         *         existir ou já tiver expirado
+         */
+        public IngestaoExemploDTO buscarSituacao(String id) throws IngestaoNaoEncontradaException;
+
+}
@@ -0,0 +1,289 @@
+package com.crudlandia.services.exemplo;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.dtos.IngestaoExemploDTO;
+import com.crudlandia.enums.SituacaoIngestaoEnum;
+import com.crudlandia.exceptions.ApiException;
+import com.crudlandia.exceptions.ExemploInvalidoException;
+import com.crudlandia.exceptions.ExemploNomeDuplicadoException;
+import com.crudlandia.exceptions.FilaIngestaoCheiaException;
+import com.crudlandia.exceptions.IngestaoNaoEncontradaException;
+import com.crudlandia.exceptions.NegocioException;
+import com.crudlandia.exceptions.ReferenciaNaoEncontradoException;
+import com.crudlandia.models.cache.ReferenciaCache;
+import com.crudlandia.models.repository.ReferenciaRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Implementação da criação assíncrona de Exemplos.
+ * 
+ * <p>
+ * A fila é um {@link ArrayBlockingQueue} de capacidade fixa: quando está cheia, o exemplo é
+ * recusado ({@link FilaIngestaoCheiaException}, HTTP 429) em vez de segurar a requisição. Um
+ * único escritor retira da fila até {@code tamanhoLote} exemplos por vez e os cria com
+ * {@link ExemploService#criarLote}, em uma transação e com INSERTs em lote JDBC. Como o lote é
+ * tudo ou nada, se algum exemplo for inválido (nome duplicado, referência removida) os exemplos
+ * daquele lote são criados um a um, e só os inválidos ficam com situação FALHOU.
+ * </p>
+ * 
+ * <p>
+ * As situações ficam em um cache Caffeine limitado por tamanho e tempo: após a expiração o
+ * identificador deixa de ser encontrado.
+ * </p>
+ * 
+ * <p>
+ * O ciclo de vida é controlado pelo Spring ({@link SmartLifecycle}): o escritor inicia com a
+ * aplicação e, no encerramento, para depois do servidor web, esvaziando a fila até o tempo
+ * limite. Os exemplos que restarem na fila ao fim do prazo são marcados como FALHOU.
+ * </p>
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ * @see IngestaoExemploService
+ */
+@Service
+public class IngestaoExemploServiceImpl implements IngestaoExemploService, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestaoExemploServiceImpl.class);
+
+    /**
+     * Código registrado para os exemplos que não chegaram a ser gravados no encerramento.
+     */
+    static final String ERRO_ENCERRAMENTO = "ENCERRAMENTO";
+
+    /**
+     * Código registrado quando a gravação falha por um erro inesperado.
+     */
+    static final String ERRO_INTERNO = "ERRO_INTERNO";
+
+    @Autowired
+    private ExemploService exemploService;
+
+    @Autowired
+    private ReferenciaRepository referenciaRepository;
+
+    @Autowired
+    private ReferenciaCache referenciaCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.exemplo.ingestao.tamanho-lote:500}")
+    private int tamanhoLote;
+
+    @Value("${app.exemplo.ingestao.timeout-encerramento-ms:20000}")
+    private long timeoutEncerramentoMs;
+
+    private final BlockingQueue<Pendente> fila;
+
+    private final Cache<String, IngestaoExemploDTO> situacoes;
+
+    private volatile boolean executando;
+
+    private Thread escritor;
+
+    public IngestaoExemploServiceImpl(
+            @Value("${app.exemplo.ingestao.capacidade-fila:10000}") int capacidadeFila,
+            @Value("${app.exemplo.ingestao.situacao.tamanho-maximo:100000}") long tamanhoMaximo,
+            @Value("${app.exemplo.ingestao.situacao.ttl-segundos:3600}") long ttlSegundos) {
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+        this.situacoes = Caffeine.newBuilder().maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos)).build();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws ExemploInvalidoException
+     * @throws ReferenciaNaoEncontradoException
+     * @throws FilaIngestaoCheiaException
+     */
+    public IngestaoExemploDTO enfileirar(Long referenciaId, String nome, String descricao,
+            Integer sequencia, BigDecimal valor, Double peso, LocalDateTime dthrEmissao)
+            throws ExemploInvalidoException, ReferenciaNaoEncontradoException,
+            FilaIngestaoCheiaException {
+        if (referenciaId == null || nome == null || nome.isBlank()) {
+            throw new ExemploInvalidoException();
+        }
+        if (!referenciaCache.contem(referenciaId)) {
+            if (!referenciaRepository.existsById(referenciaId)) {
+                throw new ReferenciaNaoEncontradoException(referenciaId);
+            }
+            referenciaCache.registrar(referenciaId);
+        }
+        if (!executando) {
+            throw new FilaIngestaoCheiaException();
+        }
+
+        IngestaoExemploDTO situacao = new IngestaoExemploDTO(UUID.randomUUID().toString(),
+                SituacaoIngestaoEnum.PENDENTE, null, null);
+        // Registrada antes de enfileirar: o escritor pode gravar o exemplo imediatamente
+        situacoes.put(situacao.getId(), situacao);
+        ExemploDTO exemplo = new ExemploDTO(null, referenciaId, nome, descricao, sequencia, valor,
+                peso, dthrEmissao != null ? dthrEmissao : LocalDateTime.now(), null, null, null);
+        if (!fila.offer(new Pendente(situacao.getId(), exemplo))) {
+            situacoes.invalidate(situacao.getId());
+            throw new FilaIngestaoCheiaException();
+        }
+        return situacao;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IngestaoNaoEncontradaException
+     */
+    public IngestaoExemploDTO buscarSituacao(String id) throws IngestaoNaoEncontradaException {
+        IngestaoExemploDTO situacao = id != null ? situacoes.getIfPresent(id) : null;
+        if (situacao == null) {
+            throw new IngestaoNaoEncontradaException(id);
+        }
+        return situacao;
+    }
+
+    @Override
+    public void start() {
+        Gauge.builder("exemplo.ingestao.fila", fila, BlockingQueue::size)
+                .description("Exemplos aguardando a criacao assincrona").register(meterRegistry);
+        executando = true;
+        escritor = new Thread(this::escrever, "ingestao-exemplos");
+        escritor.start();
+    }
+
+    /**
+     * Deixa de aceitar exemplos e aguarda o escritor esvaziar a fila, até o tempo limite.
+     */
+    @Override
+    public void stop() {
+        executando = false;
+        try {
+            escritor.join(timeoutEncerramentoMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (escritor.isAlive()) {
+            escritor.interrupt();
+        }
+        List<Pendente> restantes = new ArrayList<>();
+        fila.drainTo(restantes);
+        if (!restantes.isEmpty()) {
+            log.warn("{} exemplos da fila de ingestao nao foram gravados no encerramento",
+                    restantes.size());
+            restantes.forEach(pendente -> falhou(pendente, ERRO_ENCERRAMENTO));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    /**
+     * Inicia antes e encerra depois do servidor web, para que nenhuma requisição encontre a fila
+     * parada e os exemplos aceitos até o fim das requisições ainda sejam gravados.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Laço do escritor: aguarda o primeiro exemplo, completa o lote com o que já estiver na fila e
+     * grava. Termina quando a aplicação encerra e a fila está vazia.
+     */
+    private void escrever() {
+        List<Pendente> lote = new ArrayList<>(tamanhoLote);
+        while (executando || !fila.isEmpty()) {
+            try {
+                Pendente primeiro = fila.poll(200, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                fila.drainTo(lote, tamanhoLote - 1);
+                gravar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                lote.forEach(pendente -> falhou(pendente, ERRO_ENCERRAMENTO));
+                return;
+            } catch (RuntimeException e) {
+                log.error("Falha ao gravar lote de {} exemplos da fila de ingestao", lote.size(),
+                        e);
+                lote.forEach(pendente -> falhou(pendente, ERRO_INTERNO));
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void gravar(List<Pendente> lote) {
+        try {
+            List<ExemploDTO> criados =
+                    exemploService.criarLote(lote.stream().map(Pendente::exemplo).toList());
+            for (int i = 0; i < lote.size(); i++) {
+                criado(lote.get(i), criados.get(i));
+            }
+        } catch (ExemploNomeDuplicadoException | ReferenciaNaoEncontradoException
+                | DataIntegrityViolationException e) {
+            // O lote é desfeito inteiro (a violação no INSERT vem de uma criação concorrente com
+            // o mesmo nome): grava um a um para isolar os inválidos
+            for (Pendente pendente : lote) {
+                gravarIndividual(pendente);
+            }
+        }
+    }
+
+    private void gravarIndividual(Pendente pendente) {
+        ExemploDTO exemplo = pendente.exemplo();
+        try {
+            criado(pendente, exemploService.criar(exemplo.getReferenciaId(), exemplo.getNome(),
+                    exemplo.getDescricao(), exemplo.getSequencia(), exemplo.getValor(),
+                    exemplo.getPeso(), exemplo.getDthrEmissao()));
+        } catch (NegocioException e) {
+            falhou(pendente, e.getClass().getAnnotation(ApiException.class).value());
+        } catch (RuntimeException e) {
+            log.error("Falha ao gravar exemplo {} da fila de ingestao", pendente.id(), e);
+            falhou(pendente, ERRO_INTERNO);
+        }
+    }
+
+    private void criado(Pendente pendente, ExemploDTO criado) {
+        situacoes.put(pendente.id(), new IngestaoExemploDTO(pendente.id(),
+                SituacaoIngestaoEnum.CRIADO, criado.getId(), null));
+    }
+
+    private void falhou(Pendente pendente, String erro) {
+        situacoes.put(pendente.id(),
+                new IngestaoExemploDTO(pendente.id(), SituacaoIngestaoEnum.FALHOU, null, erro));
+    }
+
+    /**
+     * Exemplo aguardando na fila, com seu identificador de acompanhamento.
+     */
+    private record Pendente(String id, ExemploDTO exemplo) {
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.crudlandia.services.exemplo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.crudlandia.controllers.exemplo.request.PesquisarCadastroExemploRequest;
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.dtos.PaginaDTO;
+import com.crudlandia.enums.FormatoExportacaoEnum;
+import com.crudlandia.exceptions.CursorInvalidoException;
+import com.crudlandia.exceptions.OrdenacaoInvalidaException;
+import com.github.pagehelper.PageInfo;
+
+/**
+ * Interface de serviço para as consultas de listagem de Exemplos.
+ * 
+ * <p>
+ * Concentra os modos de listagem de exemplos: a paginação feita pelo PageHelper, a paginação por
+ * cursor (keyset), a listagem resumida sem contagem obrigatória e a exportação.
+ * </p>
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface ListagemExemploService {
+
+        /**
+         * Lista exemplos com paginação por número de página, via PageHelper.
+         * 
+         * <p>
+         * Aplica os filtros de período, nome, descrição e status da requisição e ordena por um dos
+         * campos aceitos (com o {@code id} como desempate). Se a ordenação não for informada,
+         * ordena por data de emissão ascendente.
+         * </p>
+         * 
+         * @param request critérios de pesquisa, ordenação e paginação
+         * @return PageInfo contendo a lista paginada de ExemploDTO e o total de registros
+         * @throws com.crudlandia.exceptions.OrdenacaoInvalidaException se o campo ou a direção de
+         *         ordenação não forem suportados
+         */
+        public PageInfo<ExemploDTO> listagem(PesquisarCadastroExemploRequest request)
+                        throws OrdenacaoInvalidaException;
+
+        /**
+         * Lista exemplos com paginação por cursor (keyset).
+         * 
+         * <p>
+         * Aplica os filtros de período, nome e status da requisição. Na primeira página o cursor
+         * deve ser nulo; as páginas seguintes são obtidas enviando o {@code nextCursor} devolvido
+         * pela página anterior, com os mesmos filtros e ordenação. Se a ordenação não for
+         * informada, ordena por data de emissão ascendente.
+         * </p>
+         * 
+         * @param request critérios de pesquisa, ordenação, tamanho da página e cursor
+         * @return PaginaDTO contendo os exemplos da página e o cursor da próxima página
+         * @throws com.crudlandia.exceptions.OrdenacaoInvalidaException se o campo ou a direção de
+         *         ordenação não forem suportados
+         * @throws com.crudlandia.exceptions.CursorInvalidoException se o cursor for inválido ou
+         *         tiver sido gerado com outra ordenação
+         */
+        public PaginaDTO<ExemploDTO> listagemCursor(PesquisarCadastroExemploRequest request)
+                        throws OrdenacaoInvalidaException, CursorInvalidoException;
+
+        /**
+         * Lista exemplos por número de página, com resposta resumida.
+         * 
+         * <p>
+         * Aplica os filtros de período, nome e status da requisição. A existência de próxima página
+         * é informada em {@code hasNext}; o total de registros só é preenchido conforme a
+         * estratégia de {@code contagem} da requisição. Se a ordenação não for informada, ordena por
+         * data de emissão ascendente.
+         * </p>
+         * 
+         * @param request critérios de pesquisa, ordenação, paginação e estratégia de contagem
+         * @return PaginaDTO contendo os exemplos da página
+         * @throws com.crudlandia.exceptions.OrdenacaoInvalidaException se o campo ou a direção de
+         *         ordenação não forem suportados
+         */
+        public PaginaDTO<ExemploDTO> listagemResumida(PesquisarCadastroExemploRequest request)
+                        throws OrdenacaoInvalidaException;
+
+        /**
+         * Exporta todos os exemplos que atendem aos filtros, escrevendo-os diretamente na saída.
+         * 
+         * <p>
+         * Aplica os filtros de período, nome e status e a ordenação da requisição (paginação e
+         * cursor são ignorados). As linhas são lidas do banco e escritas uma a uma, de modo que a
+         * memória usada não depende da quantidade de exemplos exportados. Se a escrita falhar (por
+         * exemplo, quando o cliente desconecta), a consulta é encerrada.
+         * </p>
+         * 
+         * @param request critérios de pesquisa e ordenação
+         * @param formato formato de saída
+         * @param saida stream onde os exemplos serão escritos (não é fechado)
+         * @throws com.crudlandia.exceptions.OrdenacaoInvalidaException se o campo ou a direção de
+         *         ordenação não forem suportados
+         * @throws java.io.IOException se a escrita na saída falhar
+         */
+        public void exportar(PesquisarCadastroExemploRequest request, FormatoExportacaoEnum formato,
+                        OutputStream saida) throws OrdenacaoInvalidaException, IOException;
+
+}
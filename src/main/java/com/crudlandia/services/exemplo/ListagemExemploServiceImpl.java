@@ -0,0 +1,449 @@
+package com.crudlandia.services.exemplo;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.crudlandia.controllers.exemplo.request.PesquisarCadastroExemploRequest;
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.dtos.PaginaDTO;
+import com.crudlandia.enums.CampoOrdenacaoExemploEnum;
+import com.crudlandia.enums.DirecaoOrdenacaoEnum;
+import com.crudlandia.enums.FormatoExportacaoEnum;
+import com.crudlandia.enums.TipoContagemEnum;
+import com.crudlandia.exceptions.CursorInvalidoException;
+import com.crudlandia.exceptions.OrdenacaoInvalidaException;
+import com.crudlandia.mappers.ExemploMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.pagehelper.Page;
+import com.github.pagehelper.PageHelper;
+import com.github.pagehelper.PageInfo;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Implementação do serviço de listagem de Exemplos.
+ * 
+ * <p>
+ * As consultas são executadas pelo {@link ExemploMapper} (MyBatis) em transações somente leitura.
+ * Os totais da contagem em cache são mantidos em memória, limitados em quantidade e com expiração
+ * após a escrita.
+ * </p>
+ * 
+ * <p>
+ * Na contagem {@code PARALELA}, o COUNT é executado no executor {@code contagemExecutor}, fora da
+ * transação da requisição e portanto em outra conexão do pool, enquanto a página é buscada na
+ * thread da requisição. Esgotado o tempo limite, a contagem é cancelada: se ainda estiver na fila
+ * do executor, não chega a ser executada; se já estiver em execução, é limitada pelo timeout da
+ * sua transação (o tempo limite arredondado para cima em segundos), aplicado pelo MyBatis a cada
+ * comando. O total que ainda chegar depois do tempo limite alimenta o cache de contagem.
+ * </p>
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ * @see ListagemExemploService
+ */
+@Service
+@Timed(value = "exemplo.service", histogram = true)
+@Transactional(readOnly = true)
+public class ListagemExemploServiceImpl implements ListagemExemploService {
+
+    private static final String CABECALHO_CSV =
+            "id,referenciaId,nome,descricao,sequencia,valor,peso,dthrEmissao,status,ativo,versao";
+
+    @Autowired
+    protected ExemploMapper exemploMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("contagemExecutor")
+    private Executor contagemExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.listagem.contagem-paralela.timeout-ms:2000}")
+    private long timeoutContagemMs;
+
+    private final Cache<String, Long> contagemCache;
+
+    public ListagemExemploServiceImpl(
+            @Value("${app.listagem.contagem-cache.tamanho-maximo:1000}") long tamanhoMaximo,
+            @Value("${app.listagem.contagem-cache.ttl-segundos:60}") long ttlSegundos) {
+        this.contagemCache = Caffeine.newBuilder().maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos)).build();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Com {@code contagem = PARALELA}, a contagem e a página são consultadas ao mesmo tempo em
+     * conexões distintas, de modo que a latência fica próxima à da consulta mais lenta. Se a
+     * contagem exceder o tempo limite, o total é devolvido como {@code -1} (desconhecido) e
+     * {@code hasNextPage} é obtido buscando uma linha a mais que o tamanho da página.
+     * </p>
+     * 
+     * @throws OrdenacaoInvalidaException
+     */
+    public PageInfo<ExemploDTO> listagem(PesquisarCadastroExemploRequest request)
+            throws OrdenacaoInvalidaException {
+
+        // A ordenação é validada antes de iniciar a página, para não deixar o PageHelper
+        // pendente na thread caso a requisição seja rejeitada
+        CampoOrdenacaoExemploEnum campo = campoOrdenacao(request);
+        DirecaoOrdenacaoEnum direcao = direcaoOrdenacao(request);
+
+        if (request.getContagem() == TipoContagemEnum.PARALELA) {
+            return listagemContagemParalela(request, campo, direcao);
+        }
+
+        PageHelper.startPage(request.getPageNum(), request.getPageSize());
+        return new PageInfo<ExemploDTO>(exemploMapper.listagemExemplo(request.getDthrInicio(),
+                request.getDthrFim(), request.getNome(), request.getDescricao(), request.getStatus(),
+                campo, direcao));
+    }
+
+    private PageInfo<ExemploDTO> listagemContagemParalela(PesquisarCadastroExemploRequest request,
+            CampoOrdenacaoExemploEnum campo, DirecaoOrdenacaoEnum direcao) {
+
+        long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutContagemMs);
+        CompletableFuture<Long> contagem = iniciarContagem(request);
+
+        int numeroPagina = Math.max(request.getPageNum(), 1);
+        int tamanhoPagina = Math.max(request.getPageSize(), 1);
+        int offset = (numeroPagina - 1) * tamanhoPagina;
+
+        List<ExemploDTO> itens = exemploMapper.listagemExemploPagina(request.getDthrInicio(),
+                request.getDthrFim(), request.getNome(), request.getDescricao(), request.getStatus(),
+                campo, direcao, offset, tamanhoPagina + 1);
+
+        boolean possuiProxima = itens.size() > tamanhoPagina;
+        if (possuiProxima) {
+            itens = itens.subList(0, tamanhoPagina);
+        }
+        Long total = ultimaPagina(possuiProxima, itens, offset) ? (long) offset + itens.size()
+                : aguardarContagem(contagem, prazo);
+
+        Page<ExemploDTO> pagina = new Page<>(numeroPagina, tamanhoPagina);
+        pagina.addAll(itens);
+        pagina.setTotal(total != null ? total : -1);
+
+        PageInfo<ExemploDTO> pageInfo = new PageInfo<>(pagina);
+        if (total == null) {
+            pageInfo.setHasNextPage(possuiProxima);
+            pageInfo.setIsLastPage(!possuiProxima);
+        }
+        return pageInfo;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Implementação que busca {@code pageSize + 1} linhas a partir do cursor: a linha excedente
+     * apenas indica que existe próxima página e não é devolvida.
+     * </p>
+     * 
+     * @throws OrdenacaoInvalidaException
+     * @throws CursorInvalidoException
+     */
+    public PaginaDTO<ExemploDTO> listagemCursor(PesquisarCadastroExemploRequest request)
+            throws OrdenacaoInvalidaException, CursorInvalidoException {
+
+        CampoOrdenacaoExemploEnum campo = campoOrdenacao(request);
+        DirecaoOrdenacaoEnum direcao = direcaoOrdenacao(request);
+
+        Object valorCursor = null;
+        Long idCursor = null;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            CursorListagemExemplo cursor = CursorListagemExemplo.decodificar(request.getCursor());
+
+            // O cursor só é válido para a mesma ordenação com que foi gerado
+            if (cursor.getCampo() != campo || cursor.getDirecao() != direcao) {
+                throw new CursorInvalidoException(request.getCursor());
+            }
+            valorCursor = cursor.getValor();
+            idCursor = cursor.getId();
+        }
+
+        int tamanhoPagina = Math.max(request.getPageSize(), 1);
+        List<ExemploDTO> itens = exemploMapper.listagemExemploCursor(request.getDthrInicio(),
+                request.getDthrFim(), request.getNome(), request.getDescricao(), request.getStatus(),
+                campo, direcao, valorCursor, idCursor, tamanhoPagina + 1);
+
+        boolean possuiProxima = itens.size() > tamanhoPagina;
+        if (possuiProxima) {
+            itens = itens.subList(0, tamanhoPagina);
+        }
+        String proximoCursor = possuiProxima
+                ? CursorListagemExemplo.codificar(campo, direcao, itens.get(itens.size() - 1))
+                : null;
+
+        return new PaginaDTO<>(itens, null, tamanhoPagina, null, possuiProxima, proximoCursor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Implementação que busca {@code pageSize + 1} linhas com OFFSET, sem o COUNT do PageHelper.
+     * Quando a página retornada é a última, o total é deduzido dela e nenhuma contagem é
+     * executada, mesmo nos modos {@code EXATA} e {@code CACHE}.
+     * </p>
+     * 
+     * @throws OrdenacaoInvalidaException
+     */
+    public PaginaDTO<ExemploDTO> listagemResumida(PesquisarCadastroExemploRequest request)
+            throws OrdenacaoInvalidaException {
+
+        CampoOrdenacaoExemploEnum campo = campoOrdenacao(request);
+        DirecaoOrdenacaoEnum direcao = direcaoOrdenacao(request);
+
+        int numeroPagina = Math.max(request.getPageNum(), 1);
+        int tamanhoPagina = Math.max(request.getPageSize(), 1);
+        int offset = (numeroPagina - 1) * tamanhoPagina;
+
+        TipoContagemEnum contagem =
+                request.getContagem() != null ? request.getContagem() : TipoContagemEnum.NENHUMA;
+        long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutContagemMs);
+        CompletableFuture<Long> contagemParalela =
+                contagem == TipoContagemEnum.PARALELA ? iniciarContagem(request) : null;
+
+        List<ExemploDTO> itens = exemploMapper.listagemExemploPagina(request.getDthrInicio(),
+                request.getDthrFim(), request.getNome(), request.getDescricao(), request.getStatus(),
+                campo, direcao, offset, tamanhoPagina + 1);
+
+        boolean possuiProxima = itens.size() > tamanhoPagina;
+        if (possuiProxima) {
+            itens = itens.subList(0, tamanhoPagina);
+        }
+
+        Long total = null;
+        if (contagem != TipoContagemEnum.NENHUMA) {
+            if (ultimaPagina(possuiProxima, itens, offset)) {
+                // Última página: o total é conhecido sem contar
+                total = (long) offset + itens.size();
+            } else if (contagem == TipoContagemEnum.PARALELA) {
+                total = aguardarContagem(contagemParalela, prazo);
+            } else if (contagem == TipoContagemEnum.CACHE) {
+                total = contagemCache.get(chaveContagem(request), chave -> contar(request));
+            } else {
+                total = contar(request);
+            }
+        }
+
+        return new PaginaDTO<>(itens, numeroPagina, tamanhoPagina, total, possuiProxima, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Implementação que percorre um {@link Cursor} do MyBatis: o driver traz as linhas em blocos
+     * do fetch size configurado no mapper e cada linha é serializada assim que lida. O cursor é
+     * fechado ao final ou na primeira falha de escrita, o que encerra a consulta no banco.
+     * </p>
+     * 
+     * @throws OrdenacaoInvalidaException
+     * @throws IOException
+     */
+    public void exportar(PesquisarCadastroExemploRequest request, FormatoExportacaoEnum formato,
+            OutputStream saida) throws OrdenacaoInvalidaException, IOException {
+
+        CampoOrdenacaoExemploEnum campo = campoOrdenacao(request);
+        DirecaoOrdenacaoEnum direcao = direcaoOrdenacao(request);
+
+        try (Cursor<ExemploDTO> cursor = exemploMapper.exportarExemplo(request.getDthrInicio(),
+                request.getDthrFim(), request.getNome(), request.getDescricao(), request.getStatus(),
+                campo, direcao)) {
+            if (formato == FormatoExportacaoEnum.CSV) {
+                exportarCsv(cursor, saida);
+            } else {
+                exportarNdjson(cursor, saida);
+            }
+        }
+    }
+
+    private void exportarNdjson(Cursor<ExemploDTO> cursor, OutputStream saida)
+            throws IOException {
+        // Sem flush por linha: a saída só é enviada quando o buffer do gerador enche
+        ObjectWriter escritor = objectMapper.writerFor(ExemploDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gerador.setRootValueSeparator(null);
+            for (ExemploDTO exemplo : cursor) {
+                escritor.writeValue(gerador, exemplo);
+                gerador.writeRaw('\n');
+            }
+        }
+    }
+
+    private static void exportarCsv(Cursor<ExemploDTO> cursor, OutputStream saida)
+            throws IOException {
+        // O writer não é fechado para não fechar a saída; apenas descarregado ao final
+        Writer escritor =
+                new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        escritor.write(CABECALHO_CSV);
+        escritor.write('\n');
+        for (ExemploDTO exemplo : cursor) {
+            escritor.write(valorCsv(exemplo.getId()));
+            escritor.write(',');
+            escritor.write(valorCsv(exemplo.getReferenciaId()));
+            escritor.write(',');
+            escritor.write(valorCsv(exemplo.getNome()));
+            escritor.write(',');
+            escritor.write(valorCsv(exemplo.getDescricao()));
+            escritor.write(',');
+            escritor.write(valorCsv(exemplo.getSequencia()));
+            escritor.write(',');
+            escritor.write(valorCsv(exemplo.getValor()));
+            escritor.write(',');
+            escritor.write(valorCsv(exemplo.getPeso()));
+            escritor.write(',');
+            escritor.write(valorCsv(exemplo.getDthrEmissao()));
+            escritor.write(',');
+            escritor.write(valorCsv(exemplo.getStatus()));
+            escritor.write(',');
+            escritor.write(valorCsv(exemplo.getAtivo()));
+            escritor.write(',');
+            escritor.write(valorCsv(exemplo.getVersao()));
+            escritor.write('\n');
+        }
+        escritor.flush();
+    }
+
+    /**
+     * Formata um valor para uma célula CSV (RFC 4180): nulo vira célula vazia e textos com
+     * vírgula, aspas ou quebra de linha são colocados entre aspas.
+     */
+    private static String valorCsv(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String texto = valor instanceof BigDecimal decimal ? decimal.toPlainString()
+                : valor.toString();
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0
+                && texto.indexOf('\r') < 0) {
+            return texto;
+        }
+        return '"' + texto.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean ultimaPagina(boolean possuiProxima, List<ExemploDTO> itens, int offset) {
+        return !possuiProxima && (!itens.isEmpty() || offset == 0);
+    }
+
+    /**
+     * Dispara a contagem no executor de contagem. Retorna null se o executor estiver saturado,
+     * caso em que o total é tratado como desconhecido.
+     *
+     * <p>
+     * A contagem roda em outra thread, fora da transação da listagem, e por isso abre a sua
+     * própria transação somente leitura (atendida pelas réplicas, quando configuradas).
+     * </p>
+     */
+    private CompletableFuture<Long> iniciarContagem(PesquisarCadastroExemploRequest request) {
+        String chave = chaveContagem(request);
+        TransactionTemplate somenteLeitura = new TransactionTemplate(transactionManager);
+        somenteLeitura.setReadOnly(true);
+        somenteLeitura.setTimeout(
+                (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutContagemMs + 999)));
+        try {
+            // O cache é alimentado na própria tarefa, e não pelo futuro, que é cancelado no prazo
+            return CompletableFuture.supplyAsync(() -> {
+                Long total = somenteLeitura.execute(status -> contar(request));
+                contagemCache.put(chave, total);
+                return total;
+            }, contagemExecutor);
+        } catch (RejectedExecutionException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Aguarda a contagem até o prazo. Em caso de tempo esgotado ou falha, retorna null (total
+     * desconhecido). No tempo esgotado a contagem é cancelada, o que impede a sua execução se ainda
+     * estiver na fila do executor; a que já está em execução termina pelo timeout da transação.
+     */
+    private static Long aguardarContagem(CompletableFuture<Long> contagem, long prazoNanos) {
+        if (contagem == null) {
+            return null;
+        }
+        try {
+            return contagem.get(Math.max(prazoNanos - System.nanoTime(), 0),
+                    TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            contagem.cancel(true);
+            return null;
+        } catch (ExecutionException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            contagem.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private long contar(PesquisarCadastroExemploRequest request) {
+        return exemploMapper.contarExemplo(request.getDthrInicio(), request.getDthrFim(),
+                request.getNome(), request.getDescricao(), request.getStatus());
+    }
+
+    /**
+     * Monta a chave do cache de contagem a partir dos filtros que influenciam o total.
+     */
+    private static String chaveContagem(PesquisarCadastroExemploRequest request) {
+        return request.getDthrInicio() + "|" + request.getDthrFim() + "|" + request.getStatus()
+                + "|" + request.getNome() + "|" + request.getDescricao();
+    }
+
+    private static CampoOrdenacaoExemploEnum campoOrdenacao(
+            PesquisarCadastroExemploRequest request) throws OrdenacaoInvalidaException {
+        if (request.getColumnType() == null) {
+            return CampoOrdenacaoExemploEnum.DTHR_EMISSAO;
+        }
+        return CampoOrdenacaoExemploEnum.porNome(request.getColumnType())
+                .orElseThrow(() -> new OrdenacaoInvalidaException(request.getColumnType()));
+    }
+
+    private static DirecaoOrdenacaoEnum direcaoOrdenacao(PesquisarCadastroExemploRequest request)
+            throws OrdenacaoInvalidaException {
+        if (request.getOrderType() == null) {
+            return DirecaoOrdenacaoEnum.ASC;
+        }
+        return DirecaoOrdenacaoEnum.porNome(request.getOrderType())
+                .orElseThrow(() -> new OrdenacaoInvalidaException(request.getOrderType()));
+    }
+
+}
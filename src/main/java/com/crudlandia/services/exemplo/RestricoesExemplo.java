@@ -0,0 +1,47 @@
+package com.crudlandia.services.exemplo;
+
+import java.util.Locale;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Restrições de banco da tabela de exemplos usadas para validar regras de negócio.
+ * 
+ * <p>
+ * Em vez de consultar antes de escrever, o serviço tenta a escrita e identifica pela mensagem do
+ * banco qual restrição foi violada. O nome da restrição aparece na mensagem tanto no PostgreSQL
+ * quanto no H2.
+ * </p>
+ * 
+ * @author Crudlandia Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class RestricoesExemplo {
+
+    /**
+     * Índice único de {@code exemplos.nome}.
+     */
+    static final String NOME_UNICO = "uk_exemplos_nome";
+
+    /**
+     * Chave estrangeira de {@code exemplos.referencia_id}.
+     */
+    static final String REFERENCIA_EXISTENTE = "fk_exemplos_referencia";
+
+    private RestricoesExemplo() {
+    }
+
+    /**
+     * Verifica se a violação de integridade foi causada pela restrição informada.
+     * 
+     * @param ex exceção lançada pela escrita
+     * @param restricao nome da restrição (em minúsculas)
+     * @return true se a restrição foi violada
+     */
+    static boolean violou(DataIntegrityViolationException ex, String restricao) {
+        String mensagem = ex.getMostSpecificCause().getMessage();
+        return mensagem != null && mensagem.toLowerCase(Locale.ROOT).contains(restricao);
+    }
+
+}
@@ -0,0 +1,195 @@
+package com.crudlandia.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.crudlandia.config.IndicesBuscaTextualInitializer;
+
+/**
+ * Benchmark da busca por trecho de nome ({@code like '%texto%'}) com e sem os índices de
+ * trigramas, em tamanhos crescentes da tabela de exemplos.
+ *
+ * <p>
+ * Executado apenas pela task {@code benchmarkTest} (tag {@code benchmark}) e somente quando o
+ * Docker estiver disponível. Os tamanhos podem ser alterados com
+ * {@code -Dbenchmark.tamanhos=10000,100000}. As consultas reproduzem as do
+ * {@code ExemploMapper.xml} (página ordenada por data e contagem) e os índices são criados com os
+ * mesmos comandos de {@link IndicesBuscaTextualInitializer}.
+ * </p>
+ */
+@Tag("benchmark")
+class BuscaTextualBenchmarkTest {
+
+        private static final int AQUECIMENTO = 5;
+        private static final int MEDICOES = 20;
+
+        private static final String CONSULTA_PAGINA = "select ex.id, ex.nome, ex.dthr_emissao"
+                        + " from exemplos ex"
+                        + " where ex.dthr_emissao >= ? and ex.dthr_emissao <= ? and ex.nome like ?"
+                        + " order by ex.dthr_emissao, ex.id limit 11";
+
+        private static final String CONSULTA_CONTAGEM = "select count(*) from exemplos ex"
+                        + " where ex.dthr_emissao >= ? and ex.dthr_emissao <= ? and ex.nome like ?";
+
+        private static PostgreSQLContainer<?> postgres;
+        private static Connection conexao;
+
+        @BeforeAll
+        static void iniciarBanco() throws SQLException {
+                assumeTrue(DockerClientFactory.instance().isDockerAvailable(),
+                                "Docker indisponivel");
+                postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+                postgres.start();
+                conexao = DriverManager.getConnection(postgres.getJdbcUrl(),
+                                postgres.getUsername(), postgres.getPassword());
+                try (Statement st = conexao.createStatement()) {
+                        st.execute("create table exemplos (id bigint primary key,"
+                                        + " referencia_id bigint not null, nome varchar(255) not null,"
+                                        + " descricao varchar(255), sequencia integer,"
+                                        + " valor numeric(38,2), peso float8,"
+                                        + " dthr_emissao timestamp not null, status varchar(255),"
+                                        + " ativo boolean)");
+                        st.execute("create index idx_exemplos_dthr_emissao"
+                                        + " on exemplos (dthr_emissao, id)");
+                }
+        }
+
+        @AfterAll
+        static void encerrarBanco() throws SQLException {
+                if (conexao != null) {
+                        conexao.close();
+                }
+                if (postgres != null) {
+                        postgres.stop();
+                }
+        }
+
+        @Test
+        @DisplayName("Latencia da busca por trecho de nome com e sem indice de trigramas")
+        void medirBuscaPorTrecho() throws SQLException {
+                List<Integer> tamanhos = Arrays
+                                .stream(System.getProperty("benchmark.tamanhos",
+                                                "10000,100000,1000000").split(","))
+                                .map(String::trim).map(Integer::valueOf).toList();
+
+                System.out.printf("%n%-10s %-9s %14s %14s %10s%n", "linhas", "consulta",
+                                "sem indice ms", "com indice ms", "linhas");
+                for (int tamanho : tamanhos) {
+                        popular(tamanho);
+                        // Trecho de um nome existente, sem prefixo comum a todas as linhas
+                        String padrao = "%" + md5(tamanho / 2).substring(4, 12) + "%";
+
+                        removerIndices();
+                        Medicao paginaSem = medir(CONSULTA_PAGINA, false, padrao);
+                        Medicao contagemSem = medir(CONSULTA_CONTAGEM, true, padrao);
+
+                        criarIndices();
+                        Medicao paginaCom = medir(CONSULTA_PAGINA, false, padrao);
+                        Medicao contagemCom = medir(CONSULTA_CONTAGEM, true, padrao);
+
+                        assertEquals(paginaSem.linhas, paginaCom.linhas);
+                        assertEquals(contagemSem.linhas, contagemCom.linhas);
+                        System.out.printf("%-10d %-9s %14.2f %14.2f %10d%n", tamanho, "pagina",
+                                        paginaSem.medianaMs, paginaCom.medianaMs, paginaCom.linhas);
+                        System.out.printf("%-10d %-9s %14.2f %14.2f %10d%n", tamanho, "contagem",
+                                        contagemSem.medianaMs, contagemCom.medianaMs,
+                                        contagemCom.linhas);
+                }
+        }
+
+        private static void popular(int tamanho) throws SQLException {
+                try (Statement st = conexao.createStatement()) {
+                        st.execute("truncate exemplos");
+                        st.execute("insert into exemplos (id, referencia_id, nome, descricao,"
+                                        + " sequencia, valor, peso, dthr_emissao, status, ativo)"
+                                        + " select g, 1, 'Exemplo ' || md5(g::text),"
+                                        + " 'Descricao ' || md5((g * 7)::text), g % 1000,"
+                                        + " g % 10000, g % 100,"
+                                        + " timestamp '2025-01-01' + (g % 365) * interval '1 day',"
+                                        + " 'ATIVO', true"
+                                        + " from generate_series(1, " + tamanho + ") g");
+                        st.execute("analyze exemplos");
+                }
+        }
+
+        private static void criarIndices() throws SQLException {
+                try (Statement st = conexao.createStatement()) {
+                        // Conexão em autocommit, exigido pelo create index concurrently
+                        st.execute(IndicesBuscaTextualInitializer.CRIAR_EXTENSAO);
+                        for (String coluna : IndicesBuscaTextualInitializer.COLUNAS_INDEXADAS) {
+                                st.execute(IndicesBuscaTextualInitializer
+                                                .comandoCriarIndice(coluna));
+                        }
+                        st.execute("analyze exemplos");
+                }
+        }
+
+        private static void removerIndices() throws SQLException {
+                try (Statement st = conexao.createStatement()) {
+                        st.execute("drop index if exists idx_exemplos_nome_trgm");
+                        st.execute("drop index if exists idx_exemplos_descricao_trgm");
+                }
+        }
+
+        private static Medicao medir(String sql, boolean contagem, String padrao) throws SQLException {
+                List<Double> tempos = new ArrayList<>();
+                long linhas = 0;
+                try (PreparedStatement ps = conexao.prepareStatement(sql)) {
+                        ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.of(2025, 1, 1, 0, 0)));
+                        ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.of(2025, 12, 31, 0, 0)));
+                        ps.setString(3, padrao);
+                        for (int i = 0; i < AQUECIMENTO + MEDICOES; i++) {
+                                long inicio = System.nanoTime();
+                                linhas = executar(ps, contagem);
+                                if (i >= AQUECIMENTO) {
+                                        tempos.add((System.nanoTime() - inicio) / 1_000_000.0);
+                                }
+                        }
+                }
+                Collections.sort(tempos);
+                return new Medicao(tempos.get(tempos.size() / 2), linhas);
+        }
+
+        private static long executar(PreparedStatement ps, boolean contagem) throws SQLException {
+                try (ResultSet rs = ps.executeQuery()) {
+                        long linhas = 0;
+                        while (rs.next()) {
+                                linhas = contagem ? rs.getLong(1) : linhas + 1;
+                        }
+                        return linhas;
+                }
+        }
+
+        private static String md5(int valor) throws SQLException {
+                try (Statement st = conexao.createStatement();
+                                ResultSet rs = st.executeQuery("select md5('" + valor + "')")) {
+                        rs.next();
+                        return rs.getString(1);
+                }
+        }
+
+        private record Medicao(double medianaMs, long linhas) {
+        }
+
+}
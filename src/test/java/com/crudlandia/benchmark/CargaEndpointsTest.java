@@ -0,0 +1,254 @@
+package com.crudlandia.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.crudlandia.CrudlandiaApplication;
+import com.crudlandia.models.entities.ReferenciaEntity;
+import com.crudlandia.models.repository.ExemploRepository;
+import com.crudlandia.models.repository.ReferenciaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Teste de carga dos endpoints de exemplos, com orçamento de latência.
+ *
+ * <p>
+ * Sobe a aplicação completa em porta aleatória, com H2 em memória e o pool de conexões
+ * configurado em {@code application.properties}, e dispara uma mistura de {@code criar},
+ * {@code atualizar}, {@code buscarPorId} e {@code listagem} a partir de muitos clientes
+ * simultâneos. Vazão e latências (p50/p95/p99/p999) por endpoint são gravadas em JSON, e o teste
+ * falha se alguma requisição falhar ou se algum orçamento for ultrapassado.
+ * </p>
+ *
+ * <p>
+ * Executado apenas pela task {@code cargaTest} (tag {@code carga}). Propriedades:
+ * </p>
+ * <ul>
+ * <li>{@code carga.concorrencia}, {@code carga.total} e {@code carga.aquecimento};</li>
+ * <li>{@code carga.mix}: pesos de cada endpoint, ex.:
+ * {@code criar=10,atualizar=10,buscarPorId=60,listagem=20};</li>
+ * <li>{@code carga.orcamento}: latências máximas em ms, por endpoint (ou {@code *} para todos) e
+ * percentil, ex.: {@code *.p99=1000,buscarPorId.p95=100};</li>
+ * <li>{@code carga.relatorio}: arquivo JSON do resultado.</li>
+ * </ul>
+ */
+@Tag("carga")
+class CargaEndpointsTest {
+
+        private static final int CONCORRENCIA = Integer.getInteger("carga.concorrencia", 200);
+        private static final int TOTAL = Integer.getInteger("carga.total", 20000);
+        private static final int AQUECIMENTO = Integer.getInteger("carga.aquecimento", 2000);
+        private static final String MIX = System.getProperty("carga.mix",
+                        "criar=10,atualizar=10,buscarPorId=60,listagem=20");
+        private static final String ORCAMENTO =
+                        System.getProperty("carga.orcamento", "*.p99=1000,*.p999=2000");
+        private static final Path RELATORIO = Path.of(System.getProperty("carga.relatorio",
+                        "build/reports/carga/carga.json"));
+
+        @Test
+        @DisplayName("Vazao e latencia por endpoint dentro do orcamento")
+        void executarCarga() throws Exception {
+                Map<String, Integer> mix = pares(MIX, Integer::valueOf);
+                Map<String, Double> orcamento = pares(ORCAMENTO, Double::valueOf);
+
+                Map<String, CargaHttp.Resultado> resultados;
+                try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(
+                                CrudlandiaApplication.class).properties("server.port=0",
+                                                "spring.datasource.url=jdbc:h2:mem:carga"
+                                                                + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                                                "spring.jpa.show-sql=false",
+                                                "logging.level.root=WARN")
+                                .run()) {
+                        Cenario cenario = new Cenario(contexto);
+                        CargaHttp.executarPorEndpoint(CONCORRENCIA, AQUECIMENTO,
+                                        cenario.requisicoes(sortear(mix, AQUECIMENTO, 1),
+                                                        "aquecimento-"));
+                        resultados = CargaHttp.executarPorEndpoint(CONCORRENCIA, TOTAL,
+                                        cenario.requisicoes(sortear(mix, TOTAL, 2), "carga-"));
+                }
+
+                List<String> violacoes = new ArrayList<>();
+                resultados.forEach((endpoint, resultado) -> {
+                        if (resultado.erros() > 0) {
+                                violacoes.add(endpoint + ": " + resultado.erros()
+                                                + " requisicoes com erro");
+                        }
+                        orcamento.forEach((chave, limiteMs) -> {
+                                String[] partes = chave.split("\\.");
+                                if ((partes[0].equals("*") && !CargaHttp.TOTAL.equals(endpoint))
+                                                || partes[0].equals(endpoint)) {
+                                        double latencia = resultado.percentil(partes[1]);
+                                        if (latencia > limiteMs) {
+                                                violacoes.add(String.format(
+                                                                "%s: %s de %.2f ms acima de %.2f ms",
+                                                                endpoint, partes[1], latencia,
+                                                                limiteMs));
+                                        }
+                                }
+                        });
+                });
+
+                gravarRelatorio(mix, orcamento, resultados, violacoes);
+                System.out.printf("%nconcorrencia=%d total=%d mix=%s%n%s%n", CONCORRENCIA, TOTAL,
+                                MIX, CargaHttp.Resultado.cabecalho());
+                resultados.forEach((endpoint, resultado) -> System.out
+                                .println(resultado.linha(endpoint)));
+                System.out.println("Relatorio: " + RELATORIO.toAbsolutePath());
+
+                assertTrue(violacoes.isEmpty(), String.join("\n", violacoes));
+        }
+
+        /**
+         * Dados e requisições da carga: uma referência e exemplos semente para
+         * {@code buscarPorId} e {@code atualizar}.
+         */
+        private static final class Cenario {
+
+                private final String base;
+                private final Long referenciaId;
+                private final List<Long> sementes = new ArrayList<>();
+
+                Cenario(ConfigurableApplicationContext contexto) throws InterruptedException {
+                        base = "http://localhost:"
+                                        + contexto.getEnvironment().getProperty("local.server.port")
+                                        + "/crudlandia/cadastro/exemplo";
+
+                        ReferenciaEntity referencia = new ReferenciaEntity();
+                        referencia.setCodigo("REF001");
+                        referencia.setNome("Referência");
+                        referenciaId = contexto.getBean(ReferenciaRepository.class)
+                                        .save(referencia).getId();
+
+                        // Sementes suficientes para que atualizações simultâneas raramente
+                        // disputem o mesmo exemplo (o que resultaria em conflito de versão)
+                        int quantidade = CONCORRENCIA * 2;
+                        CargaHttp.executar(CONCORRENCIA, quantidade,
+                                        i -> criar("semente-" + i));
+                        ExemploRepository exemploRepository =
+                                        contexto.getBean(ExemploRepository.class);
+                        for (int i = 0; i < quantidade; i++) {
+                                sementes.add(exemploRepository.findIdByNome("semente-" + i)
+                                                .orElseThrow());
+                        }
+                }
+
+                IntFunction<CargaHttp.Requisicao> requisicoes(
+                                List<String> endpoints, String prefixo) {
+                        return i -> {
+                                String endpoint = endpoints.get(i);
+                                int semente = i % sementes.size();
+                                HttpRequest http = switch (endpoint) {
+                                        case "criar" -> criar(prefixo + i);
+                                        case "atualizar" -> atualizar(semente, i);
+                                        case "buscarPorId" -> HttpRequest.newBuilder(URI.create(
+                                                        base + "/buscarPorId/" + sementes.get(semente)))
+                                                        .GET().build();
+                                        case "listagem" -> post("/listagem", listagem(1 + i % 5));
+                                        default -> throw new IllegalArgumentException(
+                                                        "Endpoint desconhecido: " + endpoint);
+                                };
+                                return new CargaHttp.Requisicao(endpoint, http);
+                        };
+                }
+
+                private HttpRequest criar(String nome) {
+                        return post("/criar", corpo(nome, 1));
+                }
+
+                private HttpRequest atualizar(int semente, int sequencia) {
+                        return HttpRequest
+                                        .newBuilder(URI.create(
+                                                        base + "/atualizar/" + sementes.get(semente)))
+                                        .header("Content-Type", "application/json")
+                                        .PUT(HttpRequest.BodyPublishers
+                                                        .ofString(corpo("semente-" + semente, sequencia)))
+                                        .build();
+                }
+
+                private static String listagem(int pagina) {
+                        return "{\"dthrInicio\":\"2025-01-01\",\"dthrFim\":\"2025-12-31\","
+                                        + "\"pageNum\":" + pagina + ",\"pageSize\":10,"
+                                        + "\"columnType\":\"dthrEmissao\",\"orderType\":\"DESC\"}";
+                }
+
+                private HttpRequest post(String caminho, String corpo) {
+                        return HttpRequest.newBuilder(URI.create(base + caminho))
+                                        .header("Content-Type", "application/json")
+                                        .POST(HttpRequest.BodyPublishers.ofString(corpo)).build();
+                }
+
+                private String corpo(String nome, int sequencia) {
+                        return "{\"referenciaId\":" + referenciaId + ",\"nome\":\"" + nome
+                                        + "\",\"descricao\":\"Carga\",\"sequencia\":" + sequencia
+                                        + ",\"valor\":100.50,\"peso\":50.5,"
+                                        + "\"dthrEmissao\":\"2025-11-01T10:00:00\"}";
+                }
+        }
+
+        /**
+         * Sorteia (com semente fixa) a sequência de endpoints respeitando os pesos do mix.
+         */
+        private static List<String> sortear(Map<String, Integer> mix, int total, long semente) {
+                int soma = mix.values().stream().mapToInt(Integer::intValue).sum();
+                List<String> endpoints = new ArrayList<>(total);
+                mix.forEach((endpoint, peso) -> {
+                        long quantidade = Math.round((double) total * peso / soma);
+                        for (long i = 0; i < quantidade && endpoints.size() < total; i++) {
+                                endpoints.add(endpoint);
+                        }
+                });
+                String ultimo = mix.keySet().iterator().next();
+                while (endpoints.size() < total) {
+                        endpoints.add(ultimo);
+                }
+                Collections.shuffle(endpoints, new Random(semente));
+                return endpoints;
+        }
+
+        private static <T> Map<String, T> pares(String texto,
+                        Function<String, T> conversor) {
+                Map<String, T> pares = new LinkedHashMap<>();
+                for (String par : texto.split(",")) {
+                        String[] chaveValor = par.trim().split("=");
+                        pares.put(chaveValor[0].trim(), conversor.apply(chaveValor[1].trim()));
+                }
+                return pares;
+        }
+
+        private static void gravarRelatorio(Map<String, Integer> mix, Map<String, Double> orcamento,
+                        Map<String, CargaHttp.Resultado> resultados, List<String> violacoes)
+                        throws Exception {
+                Map<String, Object> relatorio = new LinkedHashMap<>();
+                relatorio.put("concorrencia", CONCORRENCIA);
+                relatorio.put("total", TOTAL);
+                relatorio.put("mix", mix);
+                relatorio.put("orcamentoMs", orcamento);
+                relatorio.put("resultados", resultados);
+                relatorio.put("violacoes", violacoes);
+
+                if (RELATORIO.getParent() != null) {
+                        Files.createDirectories(RELATORIO.getParent());
+                }
+                new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                                .writeValue(RELATORIO.toFile(), relatorio);
+        }
+}
@@ -0,0 +1,172 @@
+package com.crudlandia.benchmark;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+
+/**
+ * Gerador de carga HTTP simples para os testes de benchmark e de carga.
+ *
+ * <p>
+ * Dispara {@code total} requisições mantendo no máximo {@code concorrencia} em andamento, cada
+ * uma em uma thread virtual, e mede a latência individual de cada requisição. Respostas com
+ * status fora da faixa 2xx são contadas como erro. Cada requisição pode ser associada a um
+ * endpoint, para que os resultados sejam apurados por endpoint.
+ * </p>
+ */
+final class CargaHttp {
+
+        /**
+         * Nome do resultado que agrega todas as requisições.
+         */
+        static final String TOTAL = "total";
+
+        private CargaHttp() {
+        }
+
+        /**
+         * Requisição associada ao endpoint pelo qual seu resultado é apurado.
+         */
+        record Requisicao(String endpoint, HttpRequest http) {
+        }
+
+        /**
+         * Resultado de uma execução de carga. Latências em milissegundos.
+         */
+        record Resultado(int requisicoes, int erros, double segundos, double vazao, double p50Ms,
+                        double p95Ms, double p99Ms, double p999Ms, double maxMs) {
+
+                String linha(String nome) {
+                        return String.format("%-12s %8d %6d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f",
+                                        nome, requisicoes, erros, vazao, p50Ms, p95Ms, p99Ms,
+                                        p999Ms, maxMs);
+                }
+
+                static String cabecalho() {
+                        return String.format("%-12s %8s %6s %10s %9s %9s %9s %9s %9s", "nome",
+                                        "reqs", "erros", "req/s", "p50 ms", "p95 ms", "p99 ms",
+                                        "p999 ms", "max ms");
+                }
+
+                /**
+                 * Latência do percentil informado ({@code p50}, {@code p95}, {@code p99},
+                 * {@code p999} ou {@code max}).
+                 */
+                double percentil(String nome) {
+                        return switch (nome) {
+                                case "p50" -> p50Ms;
+                                case "p95" -> p95Ms;
+                                case "p99" -> p99Ms;
+                                case "p999" -> p999Ms;
+                                case "max" -> maxMs;
+                                default -> throw new IllegalArgumentException(
+                                                "Percentil desconhecido: " + nome);
+                        };
+                }
+        }
+
+        /**
+         * Executa a carga.
+         *
+         * @param concorrencia número máximo de requisições simultâneas
+         * @param total número total de requisições
+         * @param requisicao fabrica a requisição de número {@code i}
+         * @return o resultado da execução
+         */
+        static Resultado executar(int concorrencia, int total, IntFunction<HttpRequest> requisicao)
+                        throws InterruptedException {
+                return executarPorEndpoint(concorrencia, total,
+                                i -> new Requisicao(TOTAL, requisicao.apply(i))).get(TOTAL);
+        }
+
+        /**
+         * Executa a carga apurando os resultados por endpoint.
+         *
+         * @param concorrencia número máximo de requisições simultâneas
+         * @param total número total de requisições
+         * @param requisicao fabrica a requisição de número {@code i}
+         * @return o resultado de cada endpoint, na ordem da primeira requisição, e o agregado
+         *         ({@link #TOTAL})
+         */
+        static Map<String, Resultado> executarPorEndpoint(int concorrencia, int total,
+                        IntFunction<Requisicao> requisicao) throws InterruptedException {
+                long[] latencias = new long[total];
+                boolean[] erros = new boolean[total];
+                String[] endpoints = new String[total];
+                Semaphore emAndamento = new Semaphore(concorrencia);
+
+                long inicio = System.nanoTime();
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                        HttpClient cliente = HttpClient.newBuilder().executor(executor)
+                                        .version(HttpClient.Version.HTTP_1_1)
+                                        .connectTimeout(Duration.ofSeconds(30)).build();
+                        for (int i = 0; i < total; i++) {
+                                int indice = i;
+                                Requisicao atual = requisicao.apply(indice);
+                                endpoints[indice] = atual.endpoint();
+                                emAndamento.acquire();
+                                executor.execute(() -> {
+                                        long envio = System.nanoTime();
+                                        try {
+                                                HttpResponse<Void> resposta = cliente.send(
+                                                                atual.http(),
+                                                                HttpResponse.BodyHandlers.discarding());
+                                                erros[indice] = resposta.statusCode() / 100 != 2;
+                                        } catch (Exception ex) {
+                                                erros[indice] = true;
+                                        } finally {
+                                                latencias[indice] = System.nanoTime() - envio;
+                                                emAndamento.release();
+                                        }
+                                });
+                        }
+                }
+                double segundos = (System.nanoTime() - inicio) / 1e9;
+
+                Map<String, Resultado> resultados = new LinkedHashMap<>();
+                for (String endpoint : new LinkedHashSet<>(Arrays.asList(endpoints))) {
+                        if (!TOTAL.equals(endpoint)) {
+                                resultados.put(endpoint, resultado(endpoint, endpoints, latencias,
+                                                erros, segundos));
+                        }
+                }
+                resultados.put(TOTAL, resultado(null, endpoints, latencias, erros, segundos));
+                return resultados;
+        }
+
+        /**
+         * Apura as requisições de um endpoint, ou todas se {@code endpoint} for null.
+         */
+        private static Resultado resultado(String endpoint, String[] endpoints, long[] latencias,
+                        boolean[] erros, double segundos) {
+                long[] selecionadas = new long[latencias.length];
+                int quantidade = 0;
+                int comErro = 0;
+                for (int i = 0; i < latencias.length; i++) {
+                        if (endpoint == null || endpoint.equals(endpoints[i])) {
+                                selecionadas[quantidade++] = latencias[i];
+                                comErro += erros[i] ? 1 : 0;
+                        }
+                }
+                long[] ordenadas = Arrays.copyOf(selecionadas, quantidade);
+                Arrays.sort(ordenadas);
+                return new Resultado(quantidade, comErro, segundos, quantidade / segundos,
+                                percentil(ordenadas, 0.50), percentil(ordenadas, 0.95),
+                                percentil(ordenadas, 0.99), percentil(ordenadas, 0.999),
+                                ordenadas[quantidade - 1] / 1e6);
+        }
+
+        private static double percentil(long[] ordenadas, double percentil) {
+                int indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+                return ordenadas[Math.max(indice, 0)] / 1e6;
+        }
+}
@@ -0,0 +1,99 @@
+package com.crudlandia.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.crudlandia.CrudlandiaApplication;
+import com.crudlandia.models.entities.ReferenciaEntity;
+import com.crudlandia.models.repository.ExemploRepository;
+import com.crudlandia.models.repository.ReferenciaRepository;
+
+/**
+ * Comparação de vazão e latência (p99) entre o modo padrão (pool de threads de plataforma do
+ * Tomcat) e o modo de threads virtuais ({@code spring.threads.virtual.enabled=true}).
+ *
+ * <p>
+ * Cada modo sobe a aplicação completa em porta aleatória, com H2 em memória e o mesmo pool de
+ * conexões, e recebe a mesma carga: 80% de {@code buscarPorId} e 20% de {@code criar}. Executado
+ * apenas pela task {@code benchmarkTest}. A carga pode ser ajustada com
+ * {@code -Dbenchmark.carga.concorrencia} e {@code -Dbenchmark.carga.total}.
+ * </p>
+ */
+@Tag("benchmark")
+class ModoThreadsBenchmarkTest {
+
+        private static final int CONCORRENCIA =
+                        Integer.getInteger("benchmark.carga.concorrencia", 500);
+        private static final int TOTAL = Integer.getInteger("benchmark.carga.total", 20000);
+
+        @Test
+        @DisplayName("Vazao e p99 com threads de plataforma e threads virtuais")
+        void compararModos() throws Exception {
+                Map<String, CargaHttp.Resultado> resultados = new LinkedHashMap<>();
+                resultados.put("plataforma", executar(false));
+                resultados.put("virtual", executar(true));
+
+                System.out.printf("%nconcorrencia=%d total=%d%n%s%n", CONCORRENCIA, TOTAL,
+                                CargaHttp.Resultado.cabecalho());
+                resultados.forEach((modo, resultado) -> {
+                        System.out.println(resultado.linha(modo));
+                        assertEquals(0, resultado.erros(), "requisicoes com erro no modo " + modo);
+                });
+        }
+
+        private static CargaHttp.Resultado executar(boolean threadsVirtuais) throws Exception {
+                try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(
+                                CrudlandiaApplication.class).properties("server.port=0",
+                                                "spring.threads.virtual.enabled=" + threadsVirtuais,
+                                                "spring.datasource.url=jdbc:h2:mem:carga"
+                                                                + threadsVirtuais
+                                                                + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                                                "spring.jpa.show-sql=false",
+                                                "logging.level.root=WARN")
+                                .run()) {
+                        String base = "http://localhost:"
+                                        + contexto.getEnvironment().getProperty("local.server.port")
+                                        + "/crudlandia/cadastro/exemplo";
+
+                        ReferenciaEntity referencia = new ReferenciaEntity();
+                        referencia.setCodigo("REF001");
+                        referencia.setNome("Referência");
+                        Long referenciaId = contexto.getBean(ReferenciaRepository.class)
+                                        .save(referencia).getId();
+
+                        HttpRequest semente = criar(base, referenciaId, "semente");
+                        CargaHttp.executar(1, 1, i -> semente);
+                        Long exemploId = contexto.getBean(ExemploRepository.class)
+                                        .findIdByNome("semente").orElseThrow();
+                        HttpRequest busca = HttpRequest
+                                        .newBuilder(URI.create(base + "/buscarPorId/" + exemploId))
+                                        .GET().build();
+
+                        // Aquecimento
+                        CargaHttp.executar(CONCORRENCIA, TOTAL / 10, i -> busca);
+
+                        return CargaHttp.executar(CONCORRENCIA, TOTAL,
+                                        i -> i % 5 == 0 ? criar(base, referenciaId, "carga-" + i)
+                                                        : busca);
+                }
+        }
+
+        private static HttpRequest criar(String base, Long referenciaId, String nome) {
+                String corpo = "{\"referenciaId\":" + referenciaId + ",\"nome\":\"" + nome
+                                + "\",\"sequencia\":1,\"valor\":100.50,\"peso\":50.5,"
+                                + "\"dthrEmissao\":\"2025-11-01T10:00:00\"}";
+                return HttpRequest.newBuilder(URI.create(base + "/criar"))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(corpo)).build();
+        }
+}
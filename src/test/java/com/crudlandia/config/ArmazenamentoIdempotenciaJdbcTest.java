@@ -0,0 +1,181 @@
+package com.crudlandia.config;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.crudlandia.controllers.exemplo.request.SalvarCadastroExemploRequest;
+import com.crudlandia.enums.StatusEnum;
+import com.crudlandia.models.entities.ReferenciaEntity;
+import com.crudlandia.models.repository.ExemploRepository;
+import com.crudlandia.models.repository.ReferenciaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Testes do armazenamento das respostas idempotentes na tabela {@code idempotencia}
+ * ({@code app.idempotencia.armazenamento=jdbc}).
+ *
+ * <p>
+ * Não é transacional, para que as respostas gravadas pelo filtro sejam confirmadas e lidas pela
+ * repetição.
+ * </p>
+ */
+@SpringBootTest(properties = "app.idempotencia.armazenamento=jdbc")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ArmazenamentoIdempotenciaJdbcTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private ArmazenamentoIdempotencia armazenamento;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private ExemploRepository exemploRepository;
+
+        @Autowired
+        private ReferenciaRepository referenciaRepository;
+
+        @BeforeEach
+        void setUp() {
+                jdbcTemplate.update("delete from idempotencia");
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+        }
+
+        @AfterEach
+        void tearDown() {
+                jdbcTemplate.update("delete from idempotencia");
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Deve repetir a resposta gravada na tabela e recusar outro corpo")
+        void deveRepetirRespostaDaTabela() throws Exception {
+                ReferenciaEntity referencia = new ReferenciaEntity();
+                referencia.setCodigo("REF001");
+                referencia.setNome("Referência Teste");
+                referencia = referenciaRepository.save(referencia);
+
+                SalvarCadastroExemploRequest request = new SalvarCadastroExemploRequest();
+                request.setReferenciaId(referencia.getId());
+                request.setNome("Exemplo Idempotente");
+                request.setDescricao("Descrição");
+                request.setSequencia(1);
+                request.setValor(new BigDecimal("10.00"));
+                request.setPeso(1.0);
+                request.setDthrEmissao(LocalDateTime.of(2025, 11, 1, 10, 0));
+                request.setStatus(StatusEnum.ATIVO);
+                String corpo = objectMapper.writeValueAsString(request);
+                String chave = UUID.randomUUID().toString();
+
+                String primeira = mockMvc.perform(post("/cadastro/exemplo/criar")
+                                .header(IdempotenciaFilter.CABECALHO_CHAVE, chave)
+                                .contentType(MediaType.APPLICATION_JSON).content(corpo))
+                                .andExpect(status().isCreated())
+                                .andReturn().getResponse().getContentAsString();
+                assertEquals(1, jdbcTemplate.queryForObject(
+                                "select count(*) from idempotencia where chave like ?",
+                                Long.class, "%" + chave));
+
+                mockMvc.perform(post("/cadastro/exemplo/criar")
+                                .header(IdempotenciaFilter.CABECALHO_CHAVE, chave)
+                                .contentType(MediaType.APPLICATION_JSON).content(corpo))
+                                .andExpect(status().isCreated())
+                                .andExpect(header().string(IdempotenciaFilter.CABECALHO_REPETIDA,
+                                                "true"))
+                                .andExpect(content().json(primeira));
+
+                request.setNome("Outro Nome");
+                mockMvc.perform(post("/cadastro/exemplo/criar")
+                                .header(IdempotenciaFilter.CABECALHO_CHAVE, chave)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isUnprocessableEntity());
+                assertEquals(1, exemploRepository.count());
+        }
+
+        @Test
+        @DisplayName("Deve manter a primeira resposta gravada para a chave")
+        void deveManterPrimeiraResposta() {
+                armazenamento.salvar("POST /x chave", resposta(201, "primeira"));
+                armazenamento.salvar("POST /x chave", resposta(409, "segunda"));
+
+                RespostaIdempotente armazenada = armazenamento.buscar("POST /x chave");
+                assertEquals(201, armazenada.status());
+                assertArrayEquals("primeira".getBytes(StandardCharsets.UTF_8), armazenada.corpo());
+                assertEquals("impressao", armazenada.impressao());
+                assertEquals("/x/1", armazenada.location());
+        }
+
+        @Test
+        @DisplayName("Deve ignorar e substituir a resposta expirada")
+        void deveSubstituirRespostaExpirada() {
+                armazenamento.salvar("POST /x expirada", resposta(201, "antiga"));
+                jdbcTemplate.update("update idempotencia set expira_em = ? where chave = ?",
+                                System.currentTimeMillis() - 1, "POST /x expirada");
+
+                assertNull(armazenamento.buscar("POST /x expirada"));
+
+                armazenamento.salvar("POST /x expirada", resposta(201, "nova"));
+                assertArrayEquals("nova".getBytes(StandardCharsets.UTF_8),
+                                armazenamento.buscar("POST /x expirada").corpo());
+        }
+
+        @Test
+        @DisplayName("Deve acrescentar a coluna da impressão a uma tabela já existente")
+        void deveAcrescentarImpressaoEmTabelaExistente() {
+                // Tabela como criada antes da impressão do corpo
+                jdbcTemplate.execute("drop table idempotencia");
+                jdbcTemplate.execute("create table idempotencia ("
+                                + " chave varchar(1024) not null primary key, status integer not null,"
+                                + " content_type varchar(255), etag varchar(255), location varchar(2048),"
+                                + " corpo bytea, expira_em bigint not null)");
+
+                ArmazenamentoIdempotenciaJdbc existente =
+                                new ArmazenamentoIdempotenciaJdbc(jdbcTemplate, 60, 60_000);
+                existente.afterPropertiesSet();
+                try {
+                        existente.salvar("POST /x existente", resposta(201, "corpo"));
+                        assertEquals("impressao",
+                                        existente.buscar("POST /x existente").impressao());
+                } finally {
+                        existente.destroy();
+                }
+        }
+
+        private static RespostaIdempotente resposta(int status, String corpo) {
+                return new RespostaIdempotente(status, "application/json", null, "/x/1",
+                                corpo.getBytes(StandardCharsets.UTF_8), "impressao");
+        }
+
+}
@@ -0,0 +1,154 @@
+package com.crudlandia.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.crudlandia.dtos.ConsultaLentaDTO;
+
+/**
+ * Testes do {@link ConsultaLentaInterceptor}, com um relógio controlado pelo teste: cada comando
+ * avança o relógio pela duração desejada, para que o limite possa ser testado exatamente.
+ */
+class ConsultaLentaInterceptorTest {
+
+        private static final long LIMITE_MS = 100;
+
+        private final AtomicLong relogio = new AtomicLong();
+
+        private StatementHandler handler;
+
+        @BeforeEach
+        void setUp() {
+                handler = mock(StatementHandler.class);
+                when(handler.getBoundSql()).thenReturn(new BoundSql(new Configuration(),
+                                "update exemplos  set ativo = false", List.of(), null));
+        }
+
+        @Test
+        @DisplayName("Deve registrar o comando que dura exatamente o limite e ignorar o mais rápido")
+        void deveRespeitarOLimiteDeConsultaLenta() throws Throwable {
+                ConsultaLentaInterceptor interceptor = interceptor(10);
+
+                executar(interceptor, LIMITE_MS - 1, 1);
+                assertTrue(interceptor.listar().isEmpty());
+
+                executar(interceptor, LIMITE_MS, 2);
+                List<ConsultaLentaDTO> consultas = interceptor.listar();
+                assertEquals(1, consultas.size());
+                assertEquals(LIMITE_MS, consultas.get(0).getDuracaoMs());
+                assertEquals(2, consultas.get(0).getLinhas());
+                assertEquals("update exemplos set ativo = false", consultas.get(0).getSql());
+                assertNull(consultas.get(0).getErro());
+        }
+
+        @Test
+        @DisplayName("Deve sobrescrever as consultas mais antigas quando o buffer está cheio")
+        void deveSobrescreverAsMaisAntigasNoBufferCheio() throws Throwable {
+                ConsultaLentaInterceptor interceptor = interceptor(3);
+
+                // A quantidade de linhas identifica cada execução
+                for (int i = 1; i <= 7; i++) {
+                        executar(interceptor, LIMITE_MS, i);
+                }
+
+                List<ConsultaLentaDTO> consultas = interceptor.listar();
+                assertEquals(3, consultas.size());
+                assertEquals(7, consultas.get(0).getLinhas());
+                assertEquals(6, consultas.get(1).getLinhas());
+                assertEquals(5, consultas.get(2).getLinhas());
+        }
+
+        @Test
+        @DisplayName("Deve cronometrar e registrar o comando lento que falha")
+        void deveRegistrarComandoLentoQueFalha() throws Throwable {
+                ConsultaLentaInterceptor interceptor = interceptor(10);
+                when(handler.update(any())).thenAnswer(chamada -> {
+                        avancar(LIMITE_MS * 2);
+                        throw new SQLException("canceling statement due to statement timeout");
+                });
+
+                assertThrows(InvocationTargetException.class,
+                                () -> interceptor.intercept(invocacao()));
+
+                List<ConsultaLentaDTO> consultas = interceptor.listar();
+                assertEquals(1, consultas.size());
+                assertEquals(LIMITE_MS * 2, consultas.get(0).getDuracaoMs());
+                assertEquals(-1, consultas.get(0).getLinhas());
+                assertEquals("SQLException: canceling statement due to statement timeout",
+                                consultas.get(0).getErro());
+        }
+
+        @Test
+        @DisplayName("Deve registrar a consulta lenta que devolve um Cursor")
+        void deveRegistrarConsultaLentaComCursor() throws Exception {
+                ConsultaLentaInterceptor interceptor = interceptor(10);
+                Cursor<Object> cursor = mock();
+                when(handler.queryCursor(any())).thenAnswer(chamada -> {
+                        avancar(LIMITE_MS);
+                        return cursor;
+                });
+                // Pelo Plugin, para que apenas os métodos declarados em @Intercepts sejam medidos
+                StatementHandler interceptado =
+                                (StatementHandler) Plugin.wrap(handler, interceptor);
+
+                assertSame(cursor, interceptado.queryCursor(null));
+
+                List<ConsultaLentaDTO> consultas = interceptor.listar();
+                assertEquals(1, consultas.size());
+                assertEquals(LIMITE_MS, consultas.get(0).getDuracaoMs());
+                assertEquals(-1, consultas.get(0).getLinhas());
+        }
+
+        @Test
+        @DisplayName("Deve recusar capacidade menor que 1")
+        void deveRecusarCapacidadeInvalida() {
+                assertThrows(IllegalArgumentException.class, () -> interceptor(0));
+        }
+
+        private ConsultaLentaInterceptor interceptor(int capacidade) {
+                return new ConsultaLentaInterceptor(LIMITE_MS, 1.0, capacidade, relogio::get);
+        }
+
+        private void executar(ConsultaLentaInterceptor interceptor, long duracaoMs, int linhas)
+                        throws Throwable {
+                when(handler.update(any())).thenAnswer(chamada -> {
+                        avancar(duracaoMs);
+                        return linhas;
+                });
+                assertEquals(linhas, interceptor.intercept(invocacao()));
+        }
+
+        private void avancar(long duracaoMs) {
+                relogio.addAndGet(TimeUnit.MILLISECONDS.toNanos(duracaoMs));
+        }
+
+        private Invocation invocacao() throws NoSuchMethodException {
+                return new Invocation(handler,
+                                StatementHandler.class.getMethod("update", Statement.class),
+                                new Object[] {null});
+        }
+
+}
@@ -0,0 +1,200 @@
+package com.crudlandia.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Testes do {@link IdempotenciaFilter} com requisições simultâneas. O controller é substituído
+ * por uma cadeia que só conclui quando o teste libera, para que a segunda requisição encontre a
+ * primeira em andamento (ou, no teste da janela entre a busca e o registro, já concluída).
+ */
+class IdempotenciaFilterTest {
+
+        private static final String CHAVE = "chave-simultanea";
+        private static final String CORPO = "{\"nome\":\"Exemplo Teste\"}";
+        private static final long PRAZO_MS = 10_000;
+
+        private final CountDownLatch executando = new CountDownLatch(1);
+        private final CountDownLatch liberar = new CountDownLatch(1);
+        private final AtomicInteger execucoes = new AtomicInteger();
+
+        /**
+         * Cadeia que simula o controller: confere o corpo recebido, aguarda a liberação e cria.
+         */
+        private final FilterChain controller = (request, response) -> {
+                execucoes.incrementAndGet();
+                String corpo = StreamUtils.copyToString(request.getInputStream(),
+                                StandardCharsets.UTF_8);
+                executando.countDown();
+                try {
+                        liberar.await();
+                } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                }
+                HttpServletResponse resposta = (HttpServletResponse) response;
+                resposta.setStatus(201);
+                resposta.setContentType("application/json");
+                resposta.getOutputStream()
+                                .write(("{\"id\":1,\"recebido\":" + corpo + "}").getBytes(
+                                                StandardCharsets.UTF_8));
+        };
+
+        @AfterEach
+        void tearDown() {
+                liberar.countDown();
+        }
+
+        @Test
+        @DisplayName("Deve executar uma vez e repetir a resposta para a requisição simultânea")
+        void deveRepetirParaRequisicaoSimultanea() throws Exception {
+                IdempotenciaFilter filtro = filtro(PRAZO_MS);
+                MockHttpServletResponse primeira = new MockHttpServletResponse();
+                MockHttpServletResponse segunda = new MockHttpServletResponse();
+
+                Thread primeiraThread = new Thread(() -> filtrar(filtro, primeira));
+                primeiraThread.start();
+                assertTrue(executando.await(PRAZO_MS, TimeUnit.MILLISECONDS));
+
+                Thread segundaThread = new Thread(() -> filtrar(filtro, segunda));
+                segundaThread.start();
+                // A segunda aguarda a conclusão da primeira (CompletableFuture.get com prazo)
+                aguardarEstado(segundaThread, Thread.State.TIMED_WAITING);
+
+                liberar.countDown();
+                primeiraThread.join(PRAZO_MS);
+                segundaThread.join(PRAZO_MS);
+
+                assertEquals(1, execucoes.get());
+                assertEquals(201, primeira.getStatus());
+                assertNull(primeira.getHeader(IdempotenciaFilter.CABECALHO_REPETIDA));
+                assertEquals(201, segunda.getStatus());
+                assertEquals("true", segunda.getHeader(IdempotenciaFilter.CABECALHO_REPETIDA));
+                assertEquals(primeira.getContentAsString(), segunda.getContentAsString());
+                assertEquals("{\"id\":1,\"recebido\":" + CORPO + "}",
+                                segunda.getContentAsString());
+        }
+
+        @Test
+        @DisplayName("Deve responder 409 quando a requisição em andamento excede a espera")
+        void deveResponderConflitoAposEspera() throws Exception {
+                IdempotenciaFilter filtro = filtro(100);
+                MockHttpServletResponse primeira = new MockHttpServletResponse();
+
+                Thread primeiraThread = new Thread(() -> filtrar(filtro, primeira));
+                primeiraThread.start();
+                assertTrue(executando.await(PRAZO_MS, TimeUnit.MILLISECONDS));
+
+                MockHttpServletResponse segunda = new MockHttpServletResponse();
+                filtrar(filtro, segunda);
+
+                assertEquals(409, segunda.getStatus());
+                liberar.countDown();
+                primeiraThread.join(PRAZO_MS);
+                assertEquals(1, execucoes.get());
+                assertEquals(201, primeira.getStatus());
+        }
+
+        @Test
+        @DisplayName("Deve repetir quando a anterior conclui entre a busca e o registro")
+        void deveRepetirQuandoAnteriorConcluiAntesDoRegistro() throws Exception {
+                ArmazenamentoIdempotencia memoria =
+                                new ArmazenamentoIdempotenciaMemoria(1024 * 1024, 60);
+                CountDownLatch buscou = new CountDownLatch(1);
+                CountDownLatch prosseguir = new CountDownLatch(1);
+                AtomicReference<Thread> segurada = new AtomicReference<>();
+                // Segura a segunda requisição logo após a primeira busca, ainda sem resposta
+                ArmazenamentoIdempotencia armazenamento = new ArmazenamentoIdempotencia() {
+
+                        @Override
+                        public RespostaIdempotente buscar(String chave) {
+                                RespostaIdempotente resposta = memoria.buscar(chave);
+                                if (segurada.compareAndSet(Thread.currentThread(), null)) {
+                                        buscou.countDown();
+                                        aguardar(prosseguir);
+                                }
+                                return resposta;
+                        }
+
+                        @Override
+                        public void salvar(String chave, RespostaIdempotente resposta) {
+                                memoria.salvar(chave, resposta);
+                        }
+                };
+                IdempotenciaFilter filtro = new IdempotenciaFilter(armazenamento, PRAZO_MS);
+                MockHttpServletResponse primeira = new MockHttpServletResponse();
+                MockHttpServletResponse segunda = new MockHttpServletResponse();
+
+                Thread primeiraThread = new Thread(() -> filtrar(filtro, primeira));
+                primeiraThread.start();
+                assertTrue(executando.await(PRAZO_MS, TimeUnit.MILLISECONDS));
+
+                Thread segundaThread = new Thread(() -> filtrar(filtro, segunda));
+                segurada.set(segundaThread);
+                segundaThread.start();
+                assertTrue(buscou.await(PRAZO_MS, TimeUnit.MILLISECONDS));
+
+                // A primeira conclui e sai de emAndamento antes que a segunda se registre
+                liberar.countDown();
+                primeiraThread.join(PRAZO_MS);
+                prosseguir.countDown();
+                segundaThread.join(PRAZO_MS);
+
+                assertEquals(1, execucoes.get());
+                assertEquals(201, segunda.getStatus());
+                assertEquals("true", segunda.getHeader(IdempotenciaFilter.CABECALHO_REPETIDA));
+                assertEquals(primeira.getContentAsString(), segunda.getContentAsString());
+        }
+
+        private IdempotenciaFilter filtro(long esperaMs) {
+                return new IdempotenciaFilter(new ArmazenamentoIdempotenciaMemoria(1024 * 1024, 60),
+                                esperaMs);
+        }
+
+        private void filtrar(IdempotenciaFilter filtro, MockHttpServletResponse response) {
+                MockHttpServletRequest request =
+                                new MockHttpServletRequest("POST", "/cadastro/exemplo/criar");
+                request.addHeader(IdempotenciaFilter.CABECALHO_CHAVE, CHAVE);
+                request.setContentType("application/json");
+                request.setContent(CORPO.getBytes(StandardCharsets.UTF_8));
+                try {
+                        filtro.doFilter(request, response, controller);
+                } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                }
+        }
+
+        private static void aguardar(CountDownLatch sinal) {
+                try {
+                        sinal.await(PRAZO_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                }
+        }
+
+        private static void aguardarEstado(Thread thread, Thread.State estado)
+                        throws InterruptedException {
+                long limite = System.currentTimeMillis() + PRAZO_MS;
+                while (thread.getState() != estado && System.currentTimeMillis() < limite) {
+                        Thread.sleep(5);
+                }
+                assertEquals(estado, thread.getState());
+        }
+
+}
@@ -0,0 +1,71 @@
+package com.crudlandia.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes do {@link MetricasMyBatisInterceptor}. O handler é envolvido pelo {@link Plugin} do
+ * MyBatis, para que apenas os métodos declarados em {@code @Intercepts} sejam medidos.
+ */
+class MetricasMyBatisInterceptorTest {
+
+        private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        private StatementHandler handler;
+
+        private StatementHandler interceptado;
+
+        @BeforeEach
+        void setUp() {
+                handler = mock(StatementHandler.class);
+                interceptado = (StatementHandler) Plugin.wrap(handler,
+                                new MetricasMyBatisInterceptor(registry));
+        }
+
+        @Test
+        @DisplayName("Deve medir as consultas que devolvem um Cursor")
+        void deveMedirConsultaComCursor() throws Exception {
+                Cursor<Object> cursor = mock();
+                when(handler.queryCursor(any())).thenReturn(cursor);
+
+                assertSame(cursor, interceptado.queryCursor(null));
+
+                assertEquals(1, timer().count());
+        }
+
+        @Test
+        @DisplayName("Deve medir as consultas e as atualizações")
+        void deveMedirConsultasEAtualizacoes() throws Exception {
+                when(handler.query(any(), any())).thenReturn(List.of());
+                when(handler.update(any())).thenReturn(1);
+
+                interceptado.query(null, null);
+                interceptado.update(null);
+
+                assertEquals(2, timer().count());
+        }
+
+        private Timer timer() {
+                Timer timer = registry.find(MetricasMyBatisInterceptor.METRICA)
+                                .tag("outcome", "SUCCESS").timer();
+                assertNotNull(timer);
+                return timer;
+        }
+
+}
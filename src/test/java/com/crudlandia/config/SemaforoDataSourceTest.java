@@ -0,0 +1,113 @@
+package com.crudlandia.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Testes do {@link SemaforoDataSource} com um DataSource simulado, de duas permissões e timeout
+ * curto, e do envolvimento feito por {@link ThreadsVirtuaisConfig}.
+ */
+class SemaforoDataSourceTest {
+
+        private static final int PERMISSOES = 2;
+        private static final long TIMEOUT_MS = 50;
+
+        private DataSource alvo;
+
+        private SemaforoDataSource dataSource;
+
+        @BeforeEach
+        void setUp() throws SQLException {
+                alvo = mock(DataSource.class);
+                when(alvo.getConnection()).thenAnswer(chamada -> mock(Connection.class));
+                dataSource = new SemaforoDataSource(alvo, PERMISSOES, TIMEOUT_MS);
+        }
+
+        @Test
+        @DisplayName("Deve devolver a permissão ao fechar a conexão")
+        void deveLiberarAoFechar() throws SQLException {
+                Connection conexao = dataSource.getConnection();
+                assertEquals(PERMISSOES - 1, dataSource.getPermissoesDisponiveis());
+
+                conexao.close();
+
+                assertEquals(PERMISSOES, dataSource.getPermissoesDisponiveis());
+        }
+
+        @Test
+        @DisplayName("Deve devolver a permissão uma única vez quando a conexão é fechada de novo")
+        void deveLiberarUmaVezAoFecharDuasVezes() throws SQLException {
+                Connection primeira = dataSource.getConnection();
+                Connection segunda = dataSource.getConnection();
+
+                primeira.close();
+                primeira.close();
+
+                assertEquals(1, dataSource.getPermissoesDisponiveis());
+                segunda.close();
+                assertEquals(PERMISSOES, dataSource.getPermissoesDisponiveis());
+        }
+
+        @Test
+        @DisplayName("Deve falhar quando nenhuma permissão é liberada dentro do timeout")
+        void deveFalharAposTimeout() throws SQLException {
+                dataSource.getConnection();
+                dataSource.getConnection();
+
+                assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+                assertEquals(0, dataSource.getPermissoesDisponiveis());
+        }
+
+        @Test
+        @DisplayName("Deve devolver a permissão quando o DataSource original falha")
+        void deveLiberarQuandoAlvoFalha() throws SQLException {
+                SQLException falha = new SQLException("pool esgotado");
+                when(alvo.getConnection()).thenThrow(falha);
+
+                assertEquals(falha, assertThrows(SQLException.class, dataSource::getConnection));
+                assertEquals(PERMISSOES, dataSource.getPermissoesDisponiveis());
+        }
+
+        @Test
+        @DisplayName("Deve repassar o fechamento à conexão original")
+        void deveFecharConexaoOriginal() throws SQLException {
+                Connection original = mock(Connection.class);
+                when(alvo.getConnection()).thenReturn(original);
+
+                dataSource.getConnection().close();
+
+                verify(original).close();
+        }
+
+        @Test
+        @DisplayName("Deve envolver apenas o DataSource da aplicação no modo de threads virtuais")
+        void deveEnvolverApenasDataSourceDaAplicacao() {
+                BeanPostProcessor processador = ThreadsVirtuaisConfig
+                                .semaforoDataSourcePostProcessor(3, TIMEOUT_MS);
+
+                Object envolvido = processador.postProcessAfterInitialization(alvo,
+                                "dataSource");
+                assertInstanceOf(SemaforoDataSource.class, envolvido);
+                assertEquals(3, ((SemaforoDataSource) envolvido).getPermissoesDisponiveis());
+                assertSame(envolvido, processador.postProcessAfterInitialization(envolvido,
+                                "dataSource"));
+                assertSame(alvo, processador.postProcessAfterInitialization(alvo, "replica-1"));
+        }
+
+}
@@ -4,12 +4,19 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,19 +24,26 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.crudlandia.config.IdempotenciaFilter;
+import com.crudlandia.controllers.exemplo.request.FiltroLoteExemploRequest;
 import com.crudlandia.controllers.exemplo.request.PesquisarCadastroExemploRequest;
 import com.crudlandia.controllers.exemplo.request.SalvarCadastroExemploRequest;
 import com.crudlandia.dtos.ExemploDTO;
 import com.crudlandia.enums.StatusEnum;
+import com.crudlandia.enums.TipoContagemEnum;
 import com.crudlandia.models.entities.ReferenciaEntity;
 import com.crudlandia.models.repository.ExemploRepository;
 import com.crudlandia.models.repository.ReferenciaRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -37,6 +51,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @Transactional
 class CadastroExemploControllerTest {
 
+        private static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+        private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
         @Autowired
         private MockMvc mockMvc;
 
@@ -103,7 +120,7 @@ class CadastroExemploControllerTest {
         }
 
         @Test
-        @DisplayName("Deve retornar erro 500 ao tentar criar exemplo com nome duplicado")
+        @DisplayName("Deve retornar erro 409 ao tentar criar exemplo com nome duplicado")
         void deveRetornarErroAoCriarComNomeDuplicado() throws Exception {
                 // Criar primeiro exemplo
                 mockMvc.perform(post("/cadastro/exemplo/criar")
@@ -115,8 +132,84 @@ class CadastroExemploControllerTest {
                 mockMvc.perform(post("/cadastro/exemplo/criar")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(salvarRequest)))
-                                .andExpect(status().isInternalServerError())
-                                .andExpect(jsonPath("$.status").value(500))
+                                .andExpect(status().isConflict())
+                                .andExpect(jsonPath("$.status").value(409))
+                                .andExpect(jsonPath("$.message").value("EXEMPLO_NOME_DUPLICADO"));
+        }
+
+        @Test
+        @DisplayName("Deve repetir a resposta ao criar novamente com a mesma Idempotency-Key")
+        void deveRepetirRespostaComMesmaChaveDeIdempotencia() throws Exception {
+                String chave = UUID.randomUUID().toString();
+                String corpo = objectMapper.writeValueAsString(salvarRequest);
+
+                String primeira = mockMvc.perform(post("/cadastro/exemplo/criar")
+                                .header(IdempotenciaFilter.CABECALHO_CHAVE, chave)
+                                .contentType(MediaType.APPLICATION_JSON).content(corpo))
+                                .andExpect(status().isCreated())
+                                .andExpect(header().doesNotExist(
+                                                IdempotenciaFilter.CABECALHO_REPETIDA))
+                                .andReturn().getResponse().getContentAsString();
+
+                // Repetição: mesma resposta, sem erro de nome duplicado e sem novo exemplo
+                mockMvc.perform(post("/cadastro/exemplo/criar")
+                                .header(IdempotenciaFilter.CABECALHO_CHAVE, chave)
+                                .contentType(MediaType.APPLICATION_JSON).content(corpo))
+                                .andExpect(status().isCreated())
+                                .andExpect(header().string(IdempotenciaFilter.CABECALHO_REPETIDA,
+                                                "true"))
+                                .andExpect(content().json(primeira));
+                assertEquals(1, exemploRepository.count());
+
+                // A mesma chave com outro corpo é recusada, sem repetir a resposta anterior
+                salvarRequest.setNome("Outro Nome");
+                mockMvc.perform(post("/cadastro/exemplo/criar")
+                                .header(IdempotenciaFilter.CABECALHO_CHAVE, chave)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(salvarRequest)))
+                                .andExpect(status().isUnprocessableEntity());
+                assertEquals(1, exemploRepository.count());
+
+                // Outra chave executa a requisição de novo
+                mockMvc.perform(post("/cadastro/exemplo/criar")
+                                .header(IdempotenciaFilter.CABECALHO_CHAVE,
+                                                UUID.randomUUID().toString())
+                                .contentType(MediaType.APPLICATION_JSON).content(corpo))
+                                .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("Deve criar exemplos em lote com sucesso")
+        void deveCriarExemplosEmLoteComSucesso() throws Exception {
+                SalvarCadastroExemploRequest outroRequest = new SalvarCadastroExemploRequest();
+                outroRequest.setReferenciaId(referencia.getId());
+                outroRequest.setNome("Outro Exemplo");
+                outroRequest.setDescricao("Descrição do outro exemplo");
+                outroRequest.setSequencia(2);
+                outroRequest.setValor(new BigDecimal("10.00"));
+                outroRequest.setPeso(5.0);
+                outroRequest.setDthrEmissao(LocalDateTime.of(2025, 11, 2, 10, 0));
+                outroRequest.setStatus(StatusEnum.ATIVO);
+
+                mockMvc.perform(post("/cadastro/exemplo/criarLote")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                                List.of(salvarRequest, outroRequest))))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.length()").value(2))
+                                .andExpect(jsonPath("$[0].nome").value("Exemplo Teste"))
+                                .andExpect(jsonPath("$[0].status").value("ATIVO"))
+                                .andExpect(jsonPath("$[1].nome").value("Outro Exemplo"));
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro 409 ao criar lote com nome repetido")
+        void deveRetornarErroAoCriarLoteComNomeRepetido() throws Exception {
+                mockMvc.perform(post("/cadastro/exemplo/criarLote")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                                List.of(salvarRequest, salvarRequest))))
+                                .andExpect(status().isConflict())
                                 .andExpect(jsonPath("$.message").value("EXEMPLO_NOME_DUPLICADO"));
         }
 
@@ -143,18 +236,18 @@ class CadastroExemploControllerTest {
         }
 
         @Test
-        @DisplayName("Deve retornar erro 500 ao tentar atualizar exemplo inexistente")
+        @DisplayName("Deve retornar erro 404 ao tentar atualizar exemplo inexistente")
         void deveRetornarErroAoAtualizarExemploInexistente() throws Exception {
                 mockMvc.perform(put("/cadastro/exemplo/atualizar/{id}", 999L)
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(salvarRequest)))
-                                .andExpect(status().isInternalServerError())
-                                .andExpect(jsonPath("$.status").value(500))
+                                .andExpect(status().isNotFound())
+                                .andExpect(jsonPath("$.status").value(404))
                                 .andExpect(jsonPath("$.message").value("EXEMPLO_NAO_ENCONTRADO"));
         }
 
         @Test
-        @DisplayName("Deve retornar erro 500 ao tentar atualizar com nome duplicado")
+        @DisplayName("Deve retornar erro 409 ao tentar atualizar com nome duplicado")
         void deveRetornarErroAoAtualizarComNomeDuplicado() throws Exception {
                 // Criar dois exemplos
                 String createResponse1 = mockMvc
@@ -183,8 +276,8 @@ class CadastroExemploControllerTest {
                 mockMvc.perform(put("/cadastro/exemplo/atualizar/{id}", exemplo2.getId())
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(salvarRequest)))
-                                .andExpect(status().isInternalServerError())
-                                .andExpect(jsonPath("$.status").value(500))
+                                .andExpect(status().isConflict())
+                                .andExpect(jsonPath("$.status").value(409))
                                 .andExpect(jsonPath("$.message").value("EXEMPLO_NOME_DUPLICADO"));
         }
 
@@ -209,14 +302,203 @@ class CadastroExemploControllerTest {
         }
 
         @Test
-        @DisplayName("Deve retornar erro 500 ao buscar exemplo inexistente")
+        @DisplayName("Deve retornar erro 404 ao buscar exemplo inexistente")
         void deveRetornarErroAoBuscarExemploInexistente() throws Exception {
                 mockMvc.perform(get("/cadastro/exemplo/buscarPorId/{id}", 999L))
-                                .andExpect(status().isInternalServerError())
-                                .andExpect(jsonPath("$.status").value(500))
+                                .andExpect(status().isNotFound())
+                                .andExpect(jsonPath("$.status").value(404))
                                 .andExpect(jsonPath("$.message").value("EXEMPLO_NAO_ENCONTRADO"));
         }
 
+        @Test
+        @DisplayName("Deve responder 304 quando o exemplo não mudou desde a ETag informada")
+        void deveResponderNaoModificadoComEtagAtual() throws Exception {
+                String createResponse = mockMvc
+                                .perform(post("/cadastro/exemplo/criar")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(objectMapper
+                                                                .writeValueAsString(salvarRequest)))
+                                .andExpect(status().isCreated()).andReturn().getResponse()
+                                .getContentAsString();
+                ExemploDTO criado = objectMapper.readValue(createResponse, ExemploDTO.class);
+                String etag = "\"" + criado.getId() + "-" + criado.getVersao() + "\"";
+
+                mockMvc.perform(get("/cadastro/exemplo/buscarPorId/{id}", criado.getId()))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+                mockMvc.perform(get("/cadastro/exemplo/buscarPorId/{id}", criado.getId())
+                                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro 412 ao atualizar com If-Match de versão antiga")
+        void deveRetornarErroAoAtualizarComVersaoAntiga() throws Exception {
+                String createResponse = mockMvc
+                                .perform(post("/cadastro/exemplo/criar")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(objectMapper
+                                                                .writeValueAsString(salvarRequest)))
+                                .andExpect(status().isCreated()).andReturn().getResponse()
+                                .getContentAsString();
+                ExemploDTO criado = objectMapper.readValue(createResponse, ExemploDTO.class);
+                String etagOriginal = "\"" + criado.getId() + "-" + criado.getVersao() + "\"";
+
+                salvarRequest.setNome("Exemplo Atualizado");
+                mockMvc.perform(put("/cadastro/exemplo/atualizar/{id}", criado.getId())
+                                .header(HttpHeaders.IF_MATCH, etagOriginal)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(salvarRequest)))
+                                .andExpect(status().isOk());
+
+                salvarRequest.setNome("Exemplo Atualizado Novamente");
+                mockMvc.perform(put("/cadastro/exemplo/atualizar/{id}", criado.getId())
+                                .header(HttpHeaders.IF_MATCH, etagOriginal)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(salvarRequest)))
+                                .andExpect(status().isPreconditionFailed())
+                                .andExpect(jsonPath("$.message")
+                                                .value("EXEMPLO_VERSAO_CONFLITANTE"));
+        }
+
+        @Test
+        @DisplayName("Deve atualizar exemplo pela versão em um único comando")
+        void deveAtualizarExemploVersionado() throws Exception {
+                String createResponse = mockMvc
+                                .perform(post("/cadastro/exemplo/criar")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(objectMapper
+                                                                .writeValueAsString(salvarRequest)))
+                                .andExpect(status().isCreated()).andReturn().getResponse()
+                                .getContentAsString();
+                ExemploDTO criado = objectMapper.readValue(createResponse, ExemploDTO.class);
+                String etagOriginal = "\"" + criado.getId() + "-" + criado.getVersao() + "\"";
+                String etagNova = "\"" + criado.getId() + "-" + (criado.getVersao() + 1) + "\"";
+
+                salvarRequest.setNome("Exemplo Versionado");
+                mockMvc.perform(put("/cadastro/exemplo/atualizarVersionado/{id}", criado.getId())
+                                .header(HttpHeaders.IF_MATCH, etagOriginal)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(salvarRequest)))
+                                .andExpect(status().isNoContent())
+                                .andExpect(header().string(HttpHeaders.ETAG, etagNova));
+
+                mockMvc.perform(get("/cadastro/exemplo/buscarPorId/{id}", criado.getId()))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.nome").value("Exemplo Versionado"))
+                                .andExpect(header().string(HttpHeaders.ETAG, etagNova));
+
+                // A ETag original não corresponde mais à versão atual
+                mockMvc.perform(put("/cadastro/exemplo/atualizarVersionado/{id}", criado.getId())
+                                .header(HttpHeaders.IF_MATCH, etagOriginal)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(salvarRequest)))
+                                .andExpect(status().isPreconditionFailed())
+                                .andExpect(jsonPath("$.message")
+                                                .value("EXEMPLO_VERSAO_CONFLITANTE"));
+
+                mockMvc.perform(put("/cadastro/exemplo/atualizarVersionado/{id}", 99999L)
+                                .header(HttpHeaders.IF_MATCH, "\"99999-0\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(salvarRequest)))
+                                .andExpect(jsonPath("$.message")
+                                                .value("EXEMPLO_NAO_ENCONTRADO"));
+        }
+
+        @Test
+        @DisplayName("Deve traduzir as violações de restrição na atualização versionada")
+        void deveTraduzirViolacoesNaAtualizacaoVersionada() throws Exception {
+                mockMvc.perform(post("/cadastro/exemplo/criar")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(salvarRequest)))
+                                .andExpect(status().isCreated());
+                salvarRequest.setNome("Outro Exemplo");
+                String createResponse = mockMvc
+                                .perform(post("/cadastro/exemplo/criar")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(objectMapper
+                                                                .writeValueAsString(salvarRequest)))
+                                .andExpect(status().isCreated()).andReturn().getResponse()
+                                .getContentAsString();
+                ExemploDTO outro = objectMapper.readValue(createResponse, ExemploDTO.class);
+                String etag = "\"" + outro.getId() + "-" + outro.getVersao() + "\"";
+
+                // Nome já usado pelo primeiro exemplo: índice único
+                salvarRequest.setNome("Exemplo Teste");
+                mockMvc.perform(put("/cadastro/exemplo/atualizarVersionado/{id}", outro.getId())
+                                .header(HttpHeaders.IF_MATCH, etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(salvarRequest)))
+                                .andExpect(status().isConflict())
+                                .andExpect(jsonPath("$.message").value("EXEMPLO_NOME_DUPLICADO"));
+
+                // Referência inexistente: chave estrangeira
+                salvarRequest.setNome("Outro Exemplo");
+                salvarRequest.setReferenciaId(referencia.getId() + 1000);
+                mockMvc.perform(put("/cadastro/exemplo/atualizarVersionado/{id}", outro.getId())
+                                .header(HttpHeaders.IF_MATCH, etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(salvarRequest)))
+                                .andExpect(status().isNotFound())
+                                .andExpect(jsonPath("$.message")
+                                                .value("REFERENCIA_NAO_ENCONTRADO"));
+        }
+
+        @Test
+        @DisplayName("Deve criar e buscar exemplo em CBOR")
+        void deveCriarEBuscarExemploEmCbor() throws Exception {
+                ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.json()
+                                .factory(new CBORFactory()).build();
+
+                byte[] createResponse = mockMvc.perform(post("/cadastro/exemplo/criar")
+                                .contentType(CBOR).accept(CBOR)
+                                .content(cborMapper.writeValueAsBytes(salvarRequest)))
+                                .andExpect(status().isCreated())
+                                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                                .andReturn().getResponse().getContentAsByteArray();
+                ExemploDTO criado = cborMapper.readValue(createResponse, ExemploDTO.class);
+
+                byte[] response = mockMvc
+                                .perform(get("/cadastro/exemplo/buscarPorId/{id}", criado.getId())
+                                                .accept(CBOR))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                                .andReturn().getResponse().getContentAsByteArray();
+                ExemploDTO encontrado = cborMapper.readValue(response, ExemploDTO.class);
+                assertEquals("Exemplo Teste", encontrado.getNome());
+                assertEquals(0, new BigDecimal("100.50").compareTo(encontrado.getValor()));
+                assertEquals(LocalDateTime.of(2025, 11, 1, 10, 0), encontrado.getDthrEmissao());
+        }
+
+        @Test
+        @DisplayName("Deve criar e buscar exemplo em Smile")
+        void deveCriarEBuscarExemploEmSmile() throws Exception {
+                ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.json()
+                                .factory(new SmileFactory()).build();
+
+                byte[] createResponse = mockMvc.perform(post("/cadastro/exemplo/criar")
+                                .contentType(SMILE).accept(SMILE)
+                                .content(smileMapper.writeValueAsBytes(salvarRequest)))
+                                .andExpect(status().isCreated())
+                                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                                .andReturn().getResponse().getContentAsByteArray();
+                ExemploDTO criado = smileMapper.readValue(createResponse, ExemploDTO.class);
+
+                byte[] response = mockMvc
+                                .perform(get("/cadastro/exemplo/buscarPorId/{id}", criado.getId())
+                                                .accept(SMILE))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                                .andReturn().getResponse().getContentAsByteArray();
+                ExemploDTO encontrado = smileMapper.readValue(response, ExemploDTO.class);
+                assertEquals(criado.getId(), encontrado.getId());
+                assertEquals("Exemplo Teste", encontrado.getNome());
+                assertEquals(0, new BigDecimal("100.50").compareTo(encontrado.getValor()));
+                assertEquals(LocalDateTime.of(2025, 11, 1, 10, 0), encontrado.getDthrEmissao());
+        }
+
         @Test
         @DisplayName("Deve listar exemplos com paginação")
         void deveListarExemplosComPaginacao() throws Exception {
@@ -234,6 +516,138 @@ class CadastroExemploControllerTest {
                                 .andExpect(jsonPath("$.list[0].nome").value("Exemplo Teste"));
         }
 
+        @Test
+        @DisplayName("Deve listar exemplos com contagem paralela")
+        void deveListarExemplosComContagemParalela() throws Exception {
+                for (String nome : List.of("Exemplo A", "Exemplo B", "Exemplo C")) {
+                        salvarRequest.setNome(nome);
+                        mockMvc.perform(post("/cadastro/exemplo/criar")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(salvarRequest)))
+                                        .andExpect(status().isCreated());
+                }
+                pesquisarRequest.setContagem(TipoContagemEnum.PARALELA);
+
+                mockMvc.perform(post("/cadastro/exemplo/listagem")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(pesquisarRequest)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.list.length()").value(3))
+                                .andExpect(jsonPath("$.list[0].nome").value("Exemplo A"))
+                                .andExpect(jsonPath("$.total").value(3))
+                                .andExpect(jsonPath("$.hasNextPage").value(false));
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro 400 ao listar com ordenação não suportada")
+        void deveRetornarErroAoListarComOrdenacaoNaoSuportada() throws Exception {
+                pesquisarRequest.setColumnType("descricao");
+
+                mockMvc.perform(post("/cadastro/exemplo/listagem")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(pesquisarRequest)))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value("ORDENACAO_INVALIDA"));
+        }
+
+        @Test
+        @DisplayName("Deve listar exemplos com resposta resumida")
+        void deveListarExemplosComRespostaResumida() throws Exception {
+                for (String nome : List.of("Exemplo A", "Exemplo B", "Exemplo C")) {
+                        salvarRequest.setNome(nome);
+                        mockMvc.perform(post("/cadastro/exemplo/criar")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(salvarRequest)))
+                                        .andExpect(status().isCreated());
+                }
+                pesquisarRequest.setPageSize(2);
+
+                mockMvc.perform(post("/cadastro/exemplo/listagemResumida")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(pesquisarRequest)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.list.length()").value(2))
+                                .andExpect(jsonPath("$.hasNext").value(true))
+                                .andExpect(jsonPath("$.total").doesNotExist())
+                                .andExpect(jsonPath("$.navigatepageNums").doesNotExist());
+
+                pesquisarRequest.setContagem(TipoContagemEnum.EXATA);
+
+                mockMvc.perform(post("/cadastro/exemplo/listagemResumida")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(pesquisarRequest)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.total").value(3));
+        }
+
+        @Test
+        @DisplayName("Deve listar exemplos com paginação por cursor")
+        void deveListarExemplosComPaginacaoPorCursor() throws Exception {
+                for (String nome : List.of("Exemplo A", "Exemplo B", "Exemplo C")) {
+                        salvarRequest.setNome(nome);
+                        mockMvc.perform(post("/cadastro/exemplo/criar")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(salvarRequest)))
+                                        .andExpect(status().isCreated());
+                }
+                pesquisarRequest.setPageSize(2);
+
+                String primeiraPagina = mockMvc.perform(post("/cadastro/exemplo/listagemCursor")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(pesquisarRequest)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.list.length()").value(2))
+                                .andExpect(jsonPath("$.list[0].nome").value("Exemplo A"))
+                                .andExpect(jsonPath("$.list[1].nome").value("Exemplo B"))
+                                .andExpect(jsonPath("$.hasNext").value(true))
+                                .andReturn().getResponse().getContentAsString();
+
+                pesquisarRequest.setCursor(
+                                objectMapper.readTree(primeiraPagina).get("nextCursor").asText());
+
+                mockMvc.perform(post("/cadastro/exemplo/listagemCursor")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(pesquisarRequest)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.list.length()").value(1))
+                                .andExpect(jsonPath("$.list[0].nome").value("Exemplo C"))
+                                .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @Test
+        @DisplayName("Deve exportar exemplos em NDJSON e CSV")
+        void deveExportarExemplos() throws Exception {
+                for (String nome : List.of("Exemplo A", "Exemplo, B")) {
+                        salvarRequest.setNome(nome);
+                        mockMvc.perform(post("/cadastro/exemplo/criar")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(salvarRequest)))
+                                        .andExpect(status().isCreated());
+                }
+
+                String ndjson = mockMvc.perform(post("/cadastro/exemplo/exportar")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(pesquisarRequest)))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType("application/x-ndjson"))
+                                .andReturn().getResponse().getContentAsString();
+
+                String[] linhas = ndjson.split("\n");
+                assertEquals(2, linhas.length);
+                assertEquals("Exemplo A",
+                                objectMapper.readValue(linhas[0], ExemploDTO.class).getNome());
+                assertEquals("Exemplo, B",
+                                objectMapper.readValue(linhas[1], ExemploDTO.class).getNome());
+
+                mockMvc.perform(post("/cadastro/exemplo/exportar").param("formato", "CSV")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(pesquisarRequest)))
+                                .andExpect(status().isOk())
+                                .andExpect(content().string(containsString(
+                                                "id,referenciaId,nome,descricao")))
+                                .andExpect(content().string(containsString(",\"Exemplo, B\",")));
+        }
+
         @Test
         @DisplayName("Deve deletar exemplo com sucesso")
         void deveDeletarExemploComSucesso() throws Exception {
@@ -250,17 +664,94 @@ class CadastroExemploControllerTest {
 
                 mockMvc.perform(delete("/cadastro/exemplo/deletar/{id}", criado.getId()))
                                 .andExpect(status().isNoContent());
+
+                mockMvc.perform(get("/cadastro/exemplo/buscarPorId/{id}", criado.getId()))
+                                .andExpect(jsonPath("$.message").value("EXEMPLO_NAO_ENCONTRADO"));
+        }
+
+        @Test
+        @DisplayName("Deve deletar exemplos em lote por ids")
+        void deveDeletarExemplosEmLote() throws Exception {
+                List<Long> ids = new ArrayList<>();
+                for (String nome : List.of("Exemplo A", "Exemplo B", "Exemplo C")) {
+                        salvarRequest.setNome(nome);
+                        String createResponse = mockMvc.perform(post("/cadastro/exemplo/criar")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(salvarRequest)))
+                                        .andExpect(status().isCreated()).andReturn().getResponse()
+                                        .getContentAsString();
+                        ids.add(objectMapper.readValue(createResponse, ExemploDTO.class).getId());
+                }
+
+                FiltroLoteExemploRequest filtro = new FiltroLoteExemploRequest();
+                filtro.setIds(List.of(ids.get(0), ids.get(1), 999L));
+
+                mockMvc.perform(post("/cadastro/exemplo/deletarLote")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(filtro)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.afetados").value(2));
+
+                mockMvc.perform(get("/cadastro/exemplo/buscarPorId/{id}", ids.get(0)))
+                                .andExpect(jsonPath("$.message").value("EXEMPLO_NAO_ENCONTRADO"));
+                mockMvc.perform(get("/cadastro/exemplo/buscarPorId/{id}", ids.get(2)))
+                                .andExpect(status().isOk());
         }
 
         @Test
-        @DisplayName("Deve retornar erro 500 ao tentar deletar exemplo inexistente")
+        @DisplayName("Deve retornar erro 404 ao tentar deletar exemplo inexistente")
         void deveRetornarErroAoDeletarExemploInexistente() throws Exception {
                 mockMvc.perform(delete("/cadastro/exemplo/deletar/{id}", 999L))
-                                .andExpect(status().isInternalServerError())
-                                .andExpect(jsonPath("$.status").value(500))
+                                .andExpect(status().isNotFound())
+                                .andExpect(jsonPath("$.status").value(404))
                                 .andExpect(jsonPath("$.message").value("EXEMPLO_NAO_ENCONTRADO"));
         }
 
+        @Test
+        @DisplayName("Deve desativar exemplos em lote por filtro")
+        void deveDesativarExemplosEmLote() throws Exception {
+                Long id = null;
+                for (String nome : List.of("Exemplo A", "Exemplo B")) {
+                        salvarRequest.setNome(nome);
+                        String createResponse = mockMvc.perform(post("/cadastro/exemplo/criar")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(salvarRequest)))
+                                        .andExpect(status().isCreated()).andReturn().getResponse()
+                                        .getContentAsString();
+                        id = objectMapper.readValue(createResponse, ExemploDTO.class).getId();
+                }
+
+                FiltroLoteExemploRequest filtro = new FiltroLoteExemploRequest();
+                filtro.setDthrInicio(LocalDate.of(2025, 1, 1));
+                filtro.setDthrFim(LocalDate.of(2025, 12, 31));
+                filtro.setReferenciaId(referencia.getId());
+
+                mockMvc.perform(put("/cadastro/exemplo/desativarLote")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(filtro)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.afetados").value(2));
+
+                mockMvc.perform(get("/cadastro/exemplo/buscarPorId/{id}", id))
+                                .andExpect(jsonPath("$.status").value("INATIVO"))
+                                .andExpect(jsonPath("$.ativo").value(false))
+                                .andExpect(jsonPath("$.versao").value(1));
+
+                // Exemplos já inativos não são alterados novamente
+                mockMvc.perform(put("/cadastro/exemplo/desativarLote")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(filtro)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.afetados").value(0));
+
+                // Sem ids nem período, nada é desativado
+                mockMvc.perform(put("/cadastro/exemplo/desativarLote")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper
+                                                .writeValueAsString(new FiltroLoteExemploRequest())))
+                                .andExpect(jsonPath("$.message").value("FILTRO_LOTE_INVALIDO"));
+        }
+
         @Test
         @DisplayName("Deve criar exemplo com status ATIVO automaticamente")
         void deveCriarExemploComStatusAtivoAutomaticamente() throws Exception {
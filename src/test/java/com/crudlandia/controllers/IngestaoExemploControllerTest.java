@@ -0,0 +1,190 @@
+package com.crudlandia.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.crudlandia.controllers.exemplo.request.SalvarCadastroExemploRequest;
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.dtos.IngestaoExemploDTO;
+import com.crudlandia.enums.SituacaoIngestaoEnum;
+import com.crudlandia.models.entities.ReferenciaEntity;
+import com.crudlandia.models.repository.ReferenciaRepository;
+import com.crudlandia.services.exemplo.ExemploService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Testes da criação assíncrona pelo controller ({@code POST /criarAssincrono}).
+ *
+ * <p>
+ * A criação em lote é substituída por um mock que só conclui quando o teste libera, para que o
+ * escritor fique ocupado e a fila, de 2 exemplos com lotes de 1, possa ser enchida. As
+ * requisições usam o context-path da aplicação, que deve constar do cabeçalho {@code Location}.
+ * Não é transacional, para que o escritor enxergue a referência criada pelo teste.
+ * </p>
+ */
+@SpringBootTest(properties = {"app.exemplo.ingestao.capacidade-fila=2",
+                "app.exemplo.ingestao.tamanho-lote=1"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IngestaoExemploControllerTest {
+
+        private static final String CONTEXTO = "/crudlandia";
+        private static final long PRAZO_MS = 10_000;
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private ReferenciaRepository referenciaRepository;
+
+        @MockitoBean
+        private ExemploService exemploService;
+
+        private final CountDownLatch gravando = new CountDownLatch(1);
+        private final CountDownLatch liberar = new CountDownLatch(1);
+        private final AtomicLong ids = new AtomicLong();
+
+        private SalvarCadastroExemploRequest salvarRequest;
+
+        @BeforeEach
+        void setUp() throws Exception {
+                referenciaRepository.deleteAll();
+                ReferenciaEntity referencia = new ReferenciaEntity();
+                referencia.setCodigo("REF001");
+                referencia.setNome("Referência Teste");
+                referencia = referenciaRepository.save(referencia);
+
+                salvarRequest = new SalvarCadastroExemploRequest();
+                salvarRequest.setReferenciaId(referencia.getId());
+                salvarRequest.setNome("Exemplo Assíncrono");
+                salvarRequest.setDescricao("Descrição");
+                salvarRequest.setSequencia(1);
+                salvarRequest.setValor(new BigDecimal("10.00"));
+                salvarRequest.setPeso(1.0);
+                salvarRequest.setDthrEmissao(LocalDateTime.of(2025, 11, 1, 10, 0));
+
+                when(exemploService.criarLote(anyList())).thenAnswer(chamada -> {
+                        gravando.countDown();
+                        liberar.await();
+                        List<ExemploDTO> exemplos = chamada.getArgument(0);
+                        exemplos.forEach(exemplo -> exemplo.setId(ids.incrementAndGet()));
+                        return exemplos;
+                });
+        }
+
+        @AfterEach
+        void tearDown() {
+                liberar.countDown();
+                referenciaRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Deve aceitar com 202 e acompanhar a situação pelo Location com context-path")
+        void deveAceitarEAcompanharPeloLocation() throws Exception {
+                MvcResult resultado = mockMvc.perform(criarAssincrono())
+                                .andExpect(status().isAccepted())
+                                .andExpect(jsonPath("$.situacao").value("PENDENTE"))
+                                .andReturn();
+                IngestaoExemploDTO ingestao = objectMapper.readValue(
+                                resultado.getResponse().getContentAsString(),
+                                IngestaoExemploDTO.class);
+                String location = resultado.getResponse().getHeader(HttpHeaders.LOCATION);
+                assertEquals("http://localhost" + CONTEXTO + "/cadastro/exemplo/ingestao/"
+                                + ingestao.getId(), location);
+
+                // Enquanto o escritor não conclui, a situação continua pendente
+                assertTrue(gravando.await(PRAZO_MS, TimeUnit.MILLISECONDS));
+                mockMvc.perform(get(URI.create(location).getPath()).contextPath(CONTEXTO))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.situacao").value("PENDENTE"));
+
+                liberar.countDown();
+
+                IngestaoExemploDTO situacao = aguardar(location);
+                assertEquals(SituacaoIngestaoEnum.CRIADO, situacao.getSituacao());
+                assertEquals(1L, situacao.getExemploId());
+        }
+
+        @Test
+        @DisplayName("Deve responder 429 quando a fila de ingestão está cheia")
+        void deveRecusarComFilaCheia() throws Exception {
+                List<String> locations = new ArrayList<>();
+                // O primeiro ocupa o escritor; os dois seguintes enchem a fila
+                locations.add(aceitar());
+                assertTrue(gravando.await(PRAZO_MS, TimeUnit.MILLISECONDS));
+                locations.add(aceitar());
+                locations.add(aceitar());
+
+                mockMvc.perform(criarAssincrono())
+                                .andExpect(status().isTooManyRequests())
+                                .andExpect(jsonPath("$.message").value("FILA_INGESTAO_CHEIA"));
+
+                liberar.countDown();
+                for (String location : locations) {
+                        assertEquals(SituacaoIngestaoEnum.CRIADO, aguardar(location).getSituacao());
+                }
+        }
+
+        private MockHttpServletRequestBuilder criarAssincrono() throws Exception {
+                return post(CONTEXTO + "/cadastro/exemplo/criarAssincrono").contextPath(CONTEXTO)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(salvarRequest));
+        }
+
+        private String aceitar() throws Exception {
+                return mockMvc.perform(criarAssincrono()).andExpect(status().isAccepted())
+                                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        }
+
+        private IngestaoExemploDTO aguardar(String location) throws Exception {
+                long limite = System.currentTimeMillis() + PRAZO_MS;
+                IngestaoExemploDTO situacao;
+                do {
+                        String resposta = mockMvc
+                                        .perform(get(URI.create(location).getPath())
+                                                        .contextPath(CONTEXTO))
+                                        .andExpect(status().isOk()).andReturn().getResponse()
+                                        .getContentAsString();
+                        situacao = objectMapper.readValue(resposta, IngestaoExemploDTO.class);
+                        if (situacao.getSituacao() == SituacaoIngestaoEnum.PENDENTE) {
+                                Thread.sleep(50);
+                        }
+                } while (situacao.getSituacao() == SituacaoIngestaoEnum.PENDENTE
+                                && System.currentTimeMillis() < limite);
+                return situacao;
+        }
+
+}
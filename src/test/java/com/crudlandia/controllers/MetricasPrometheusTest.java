@@ -0,0 +1,71 @@
+package com.crudlandia.controllers;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.crudlandia.controllers.exemplo.request.PesquisarCadastroExemploRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Testes da publicação das métricas no formato Prometheus.
+ * 
+ * <p>
+ * {@code @AutoConfigureObservability} é necessário porque o Spring Boot desativa a exportação de
+ * métricas nos testes.
+ * </p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricasPrometheusTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Test
+        @DisplayName("Deve publicar métricas de requisições, serviços, MyBatis e pool")
+        void devePublicarMetricas() throws Exception {
+                PesquisarCadastroExemploRequest request = new PesquisarCadastroExemploRequest();
+                request.setDthrInicio(LocalDate.of(2025, 1, 1));
+                request.setDthrFim(LocalDate.of(2025, 12, 31));
+                request.setColumnType("nome");
+                request.setOrderType("ASC");
+
+                mockMvc.perform(post("/cadastro/exemplo/listagem")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk());
+
+                mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isOk())
+                                .andExpect(content().string(containsString(
+                                                "http_server_requests_seconds_bucket")))
+                                .andExpect(content().string(containsString(
+                                                "uri=\"/cadastro/exemplo/listagem\"")))
+                                .andExpect(content().string(containsString(
+                                                "exemplo_service_seconds_bucket")))
+                                .andExpect(content().string(containsString(
+                                                "statement=\"com.crudlandia.mappers.ExemploMapper.listagemExemplo\"")))
+                                .andExpect(content().string(
+                                                containsString("hikaricp_connections_active")));
+        }
+
+}
@@ -0,0 +1,58 @@
+package com.crudlandia.controllers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.crudlandia.controllers.exemplo.request.PesquisarCadastroExemploRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Testes do registro de consultas lentas, com limite zero para que todo comando seja registrado.
+ */
+@SpringBootTest(properties = "app.monitoramento.consulta-lenta.limite-ms=0")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MonitoramentoControllerTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Test
+        @DisplayName("Deve registrar o SQL e os parâmetros da listagem como consulta lenta")
+        void deveRegistrarConsultaLenta() throws Exception {
+                PesquisarCadastroExemploRequest request = new PesquisarCadastroExemploRequest();
+                request.setDthrInicio(LocalDate.of(2025, 1, 1));
+                request.setDthrFim(LocalDate.of(2025, 12, 31));
+                request.setNome("Trecho");
+                request.setColumnType("nome");
+                request.setOrderType("DESC");
+
+                mockMvc.perform(post("/cadastro/exemplo/listagemResumida")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk());
+
+                mockMvc.perform(get("/monitoramento/consultasLentas")).andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].statement").value(
+                                                "com.crudlandia.mappers.ExemploMapper.listagemExemploPagina"))
+                                .andExpect(jsonPath("$[0].parametros[2]").value("%Trecho%"))
+                                .andExpect(jsonPath("$[0].linhas").value(0));
+        }
+
+}
@@ -0,0 +1,106 @@
+package com.crudlandia.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.models.entities.ExemploEntity;
+import com.crudlandia.models.entities.ReferenciaEntity;
+import com.crudlandia.models.repository.ExemploRepository;
+import com.crudlandia.models.repository.ReferenciaRepository;
+import com.crudlandia.services.exemplo.ExemploService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Testes do cache de segundo nível de {@code ExemploEntity}.
+ * 
+ * <p>
+ * Não é transacional: cada chamada ao serviço ou ao repositório usa uma sessão nova, de modo que
+ * as leituras repetidas só evitam o banco se forem atendidas pelo cache de segundo nível.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ExemploCacheSegundoNivelTest {
+
+        @Autowired
+        private ExemploService exemploService;
+
+        @Autowired
+        private ExemploRepository exemploRepository;
+
+        @Autowired
+        private ReferenciaRepository referenciaRepository;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        private ReferenciaEntity referencia;
+
+        @BeforeEach
+        void setUp() {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+
+                referencia = new ReferenciaEntity();
+                referencia.setCodigo("REF001");
+                referencia.setNome("Referência Teste");
+                referencia = referenciaRepository.save(referencia);
+        }
+
+        @AfterEach
+        void tearDown() {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Deve atender leituras repetidas pelo cache e refletir a atualização")
+        void deveAtenderLeiturasPeloCacheERefletirAtualizacao() throws Exception {
+                ExemploDTO criado = exemploService.criar(referencia.getId(), "Exemplo Cache",
+                                "Descrição", 1, new BigDecimal("10.00"), 1.5,
+                                LocalDateTime.of(2025, 11, 1, 10, 0));
+
+                Statistics estatisticas =
+                                entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                estatisticas.clear();
+
+                // Consultas por ID da API, cada uma em sessão nova
+                exemploService.buscarPorId(criado.getId());
+                exemploService.buscarPorId(criado.getId());
+                assertTrue(estatisticas.getDomainDataRegionStatistics("exemplos")
+                                .getHitCount() >= 2);
+                assertEquals(0, estatisticas.getEntityLoadCount());
+                assertEquals(0, estatisticas.getPrepareStatementCount());
+
+                // Leituras de entidade dos caminhos de escrita
+                exemploRepository.findById(criado.getId()).orElseThrow();
+                assertEquals(0, estatisticas.getEntityLoadCount());
+
+                ExemploDTO atualizado = exemploService.atualizar(criado.getId(),
+                                criado.getVersao(), referencia.getId(), "Exemplo Cache Alterado",
+                                "Descrição", 1, new BigDecimal("10.00"), 1.5,
+                                LocalDateTime.of(2025, 11, 1, 10, 0));
+
+                ExemploEntity lido = exemploRepository.findById(criado.getId()).orElseThrow();
+                assertEquals("Exemplo Cache Alterado", lido.getNome());
+                assertEquals(atualizado.getVersao(), lido.getVersao());
+                ExemploDTO buscado = exemploService.buscarPorId(criado.getId());
+                assertEquals("Exemplo Cache Alterado", buscado.getNome());
+                assertEquals(atualizado.getVersao(), buscado.getVersao());
+        }
+}
@@ -0,0 +1,133 @@
+package com.crudlandia.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.exceptions.ReferenciaNaoEncontradoException;
+import com.crudlandia.models.cache.ReferenciaCache;
+import com.crudlandia.models.entities.ReferenciaEntity;
+import com.crudlandia.models.repository.ExemploRepository;
+import com.crudlandia.models.repository.ReferenciaRepository;
+import com.crudlandia.services.exemplo.ExemploService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Testes da criação de exemplos em lote ({@link ExemploService#criarLote}).
+ * 
+ * <p>
+ * Usa lotes JDBC de 5 registros, para que poucos exemplos já passem por vários ciclos de envio e
+ * limpeza do contexto de persistência. Não é transacional, para que cada chamada use a própria
+ * transação do serviço.
+ * </p>
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.jdbc.batch_size=5")
+@ActiveProfiles("test")
+class ExemploCriacaoLoteTest {
+
+        private static final int TAMANHO_LOTE = 5;
+
+        @Autowired
+        private ExemploService exemploService;
+
+        @Autowired
+        private ExemploRepository exemploRepository;
+
+        @Autowired
+        private ReferenciaRepository referenciaRepository;
+
+        @Autowired
+        private ReferenciaCache referenciaCache;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        private ReferenciaEntity referencia;
+
+        @BeforeEach
+        void setUp() {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+
+                referencia = new ReferenciaEntity();
+                referencia.setCodigo("REF001");
+                referencia.setNome("Referência Teste");
+                referencia = referenciaRepository.save(referencia);
+        }
+
+        @AfterEach
+        void tearDown() {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Deve enviar mais exemplos que o tamanho do lote em vários ciclos")
+        void deveCriarEmVariosCiclosDeLote() throws Exception {
+                int quantidade = TAMANHO_LOTE * 2 + 2;
+                Statistics estatisticas =
+                                entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                estatisticas.clear();
+
+                List<ExemploDTO> criados = exemploService.criarLote(exemplos(quantidade));
+
+                assertEquals(quantidade, criados.size());
+                assertEquals("Exemplo Lote 1", criados.get(0).getNome());
+                assertEquals("Exemplo Lote " + quantidade, criados.get(quantidade - 1).getNome());
+                assertTrue(criados.stream().allMatch(criado -> criado.getId() != null));
+                assertEquals(quantidade, estatisticas.getEntityInsertCount());
+                // Um ciclo de envio e limpeza a cada 5 exemplos, mais o do restante
+                assertTrue(estatisticas.getFlushCount() >= 3,
+                                "flushes: " + estatisticas.getFlushCount());
+                assertEquals(quantidade, exemploRepository.count());
+        }
+
+        @Test
+        @DisplayName("Deve converter a violação da referência no envio do lote e desfazer tudo")
+        void deveConverterViolacaoDeReferenciaNoEnvioDoLote() {
+                // Referência no cache, mas removida do banco sem passar pelo Hibernate
+                referenciaCache.registrar(referencia.getId());
+                jdbcTemplate.update("delete from referencias where id = ?", referencia.getId());
+
+                ReferenciaNaoEncontradoException erro = assertThrows(
+                                ReferenciaNaoEncontradoException.class,
+                                () -> exemploService.criarLote(exemplos(TAMANHO_LOTE + 1)));
+
+                assertEquals(referencia.getId(), erro.getId());
+                assertFalse(referenciaCache.contem(referencia.getId()));
+                assertEquals(0, exemploRepository.count());
+        }
+
+        private List<ExemploDTO> exemplos(int quantidade) {
+                List<ExemploDTO> exemplos = new ArrayList<>(quantidade);
+                for (int i = 1; i <= quantidade; i++) {
+                        exemplos.add(new ExemploDTO(null, referencia.getId(), "Exemplo Lote " + i,
+                                        "Descrição", i, new BigDecimal("10.00"), 1.0,
+                                        LocalDateTime.of(2025, 11, 1, 10, 0), null, null, null));
+                }
+                return exemplos;
+        }
+
+}
@@ -0,0 +1,171 @@
+package com.crudlandia.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.crudlandia.controllers.exemplo.request.FiltroLoteExemploRequest;
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.dtos.OperacaoLoteDTO;
+import com.crudlandia.enums.StatusEnum;
+import com.crudlandia.models.entities.ExemploEntity;
+import com.crudlandia.models.entities.ReferenciaEntity;
+import com.crudlandia.models.repository.ExemploRepository;
+import com.crudlandia.models.repository.ReferenciaRepository;
+import com.crudlandia.services.exemplo.ExemploService;
+
+/**
+ * Testes das operações em lote ({@link ExemploService#desativarLote} e
+ * {@link ExemploService#deletarLote}) divididas em vários blocos.
+ *
+ * <p>
+ * Usa blocos de 2 exemplos, para que poucos exemplos já ocupem vários blocos, tanto pelos filtros
+ * (comando repetido até alterar menos que o bloco) quanto pelos ids (um comando por bloco de
+ * ids). Não é transacional, para que cada bloco use a própria transação do serviço.
+ * </p>
+ */
+@SpringBootTest(properties = "app.exemplo.lote.tamanho-bloco=2")
+@ActiveProfiles("test")
+class ExemploLoteBlocosTest {
+
+        private static final int EXEMPLOS_LOTE = 5;
+
+        @Autowired
+        private ExemploService exemploService;
+
+        @Autowired
+        private ExemploRepository exemploRepository;
+
+        @Autowired
+        private ReferenciaRepository referenciaRepository;
+
+        private ReferenciaEntity referencia;
+
+        private List<Long> idsLote;
+
+        private Long idOutro;
+
+        @BeforeEach
+        void setUp() throws Exception {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+
+                referencia = new ReferenciaEntity();
+                referencia.setCodigo("REF001");
+                referencia.setNome("Referência Teste");
+                referencia = referenciaRepository.save(referencia);
+
+                List<ExemploDTO> exemplos = new ArrayList<>();
+                for (int i = 1; i <= EXEMPLOS_LOTE; i++) {
+                        exemplos.add(exemplo("Exemplo Lote " + i, i));
+                }
+                // Fora do filtro por nome: não deve ser alterado pelos testes por filtro
+                exemplos.add(exemplo("Outro Exemplo", EXEMPLOS_LOTE + 1));
+
+                idsLote = new ArrayList<>();
+                for (ExemploDTO criado : exemploService.criarLote(exemplos)) {
+                        if (criado.getNome().startsWith("Exemplo Lote")) {
+                                idsLote.add(criado.getId());
+                        } else {
+                                idOutro = criado.getId();
+                        }
+                }
+        }
+
+        @AfterEach
+        void tearDown() {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Deve desativar por filtro em vários blocos")
+        void deveDesativarPorFiltroEmVariosBlocos() throws Exception {
+                OperacaoLoteDTO resultado = exemploService.desativarLote(filtroPorNome());
+
+                // Blocos de 2, 2 e 1 exemplos: o último altera menos que o bloco e encerra
+                assertEquals(EXEMPLOS_LOTE, resultado.getAfetados());
+                assertEquals(3, resultado.getBlocos());
+                for (Long id : idsLote) {
+                        ExemploEntity exemplo = exemploRepository.findById(id).orElseThrow();
+                        assertEquals(StatusEnum.INATIVO, exemplo.getStatus());
+                        assertFalse(exemplo.getAtivo());
+                }
+                assertTrue(exemploRepository.findById(idOutro).orElseThrow().getAtivo());
+        }
+
+        @Test
+        @DisplayName("Deve desativar por ids em vários blocos, ignorando ids repetidos")
+        void deveDesativarPorIdsEmVariosBlocos() throws Exception {
+                List<Long> ids = new ArrayList<>(idsLote);
+                ids.add(idsLote.get(0));
+                FiltroLoteExemploRequest filtro = new FiltroLoteExemploRequest();
+                filtro.setIds(ids);
+
+                OperacaoLoteDTO resultado = exemploService.desativarLote(filtro);
+
+                assertEquals(EXEMPLOS_LOTE, resultado.getAfetados());
+                assertEquals(3, resultado.getBlocos());
+                for (Long id : idsLote) {
+                        assertEquals(StatusEnum.INATIVO,
+                                        exemploRepository.findById(id).orElseThrow().getStatus());
+                }
+                assertTrue(exemploRepository.findById(idOutro).orElseThrow().getAtivo());
+        }
+
+        @Test
+        @DisplayName("Deve deletar por filtro em vários blocos")
+        void deveDeletarPorFiltroEmVariosBlocos() throws Exception {
+                OperacaoLoteDTO resultado = exemploService.deletarLote(filtroPorNome());
+
+                assertEquals(EXEMPLOS_LOTE, resultado.getAfetados());
+                assertEquals(3, resultado.getBlocos());
+                assertEquals(1, exemploRepository.count());
+                assertTrue(exemploRepository.existsById(idOutro));
+        }
+
+        @Test
+        @DisplayName("Deve deletar por ids em vários blocos")
+        void deveDeletarPorIdsEmVariosBlocos() throws Exception {
+                FiltroLoteExemploRequest filtro = new FiltroLoteExemploRequest();
+                filtro.setIds(idsLote.subList(0, 4));
+
+                OperacaoLoteDTO resultado = exemploService.deletarLote(filtro);
+
+                assertEquals(4, resultado.getAfetados());
+                assertEquals(2, resultado.getBlocos());
+                assertEquals(2, exemploRepository.count());
+                assertTrue(exemploRepository.existsById(idsLote.get(4)));
+                assertTrue(exemploRepository.existsById(idOutro));
+        }
+
+        private FiltroLoteExemploRequest filtroPorNome() {
+                FiltroLoteExemploRequest filtro = new FiltroLoteExemploRequest();
+                filtro.setDthrInicio(LocalDate.of(2025, 1, 1));
+                filtro.setDthrFim(LocalDate.of(2025, 12, 31));
+                filtro.setNome("Lote");
+                filtro.setReferenciaId(referencia.getId());
+                return filtro;
+        }
+
+        private ExemploDTO exemplo(String nome, int sequencia) {
+                return new ExemploDTO(null, referencia.getId(), nome, "Descrição", sequencia,
+                                new BigDecimal("10.00"), 1.0, LocalDateTime.of(2025, 11, 1, 10, 0),
+                                null, null, null);
+        }
+
+}
@@ -0,0 +1,138 @@
+package com.crudlandia.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.exceptions.ExemploNomeDuplicadoException;
+import com.crudlandia.models.entities.ReferenciaEntity;
+import com.crudlandia.models.repository.ExemploRepository;
+import com.crudlandia.models.repository.ReferenciaRepository;
+import com.crudlandia.services.exemplo.ExemploService;
+
+/**
+ * Testes de concorrência do {@link ExemploService}.
+ * 
+ * <p>
+ * Não é transacional: cada chamada ao serviço precisa confirmar a própria transação para que as
+ * threads concorram de fato pelo índice único de nome.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ExemploServiceConcorrenciaTest {
+
+        private static final int THREADS = 8;
+        private static final int RODADAS = 10;
+
+        @Autowired
+        private ExemploService exemploService;
+
+        @Autowired
+        private ExemploRepository exemploRepository;
+
+        @Autowired
+        private ReferenciaRepository referenciaRepository;
+
+        private ReferenciaEntity referencia;
+
+        @BeforeEach
+        void setUp() {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+
+                referencia = new ReferenciaEntity();
+                referencia.setCodigo("REF001");
+                referencia.setNome("Referência Teste");
+                referencia = referenciaRepository.save(referencia);
+        }
+
+        @AfterEach
+        void tearDown() {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Deve criar apenas um exemplo quando várias threads criam o mesmo nome")
+        void deveCriarApenasUmExemploComNomeConcorrente() throws Exception {
+                ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+                try {
+                        for (int rodada = 0; rodada < RODADAS; rodada++) {
+                                String nome = "Exemplo Concorrente " + rodada;
+                                CountDownLatch largada = new CountDownLatch(1);
+                                List<Future<Boolean>> resultados = new ArrayList<>();
+
+                                for (int i = 0; i < THREADS; i++) {
+                                        resultados.add(executor.submit(() -> {
+                                                largada.await();
+                                                try {
+                                                        exemploService.criar(referencia.getId(),
+                                                                        nome, "Descrição", 1,
+                                                                        new BigDecimal("10.00"),
+                                                                        1.0,
+                                                                        LocalDateTime.of(2025, 11,
+                                                                                        1, 10, 0));
+                                                        return true;
+                                                } catch (ExemploNomeDuplicadoException e) {
+                                                        return false;
+                                                }
+                                        }));
+                                }
+                                largada.countDown();
+
+                                int criados = 0;
+                                for (Future<Boolean> resultado : resultados) {
+                                        if (resultado.get(30, TimeUnit.SECONDS)) {
+                                                criados++;
+                                        }
+                                }
+
+                                assertEquals(1, criados, "Apenas uma thread deve criar o nome");
+                                assertTrue(exemploRepository.findIdByNome(nome).isPresent());
+                        }
+                        assertEquals(RODADAS, exemploRepository.count());
+                } finally {
+                        executor.shutdownNow();
+                }
+        }
+
+        @Test
+        @DisplayName("Deve informar o ID do exemplo existente após o rollback do nome duplicado")
+        void deveInformarIdExistenteAposRollback() throws Exception {
+                ExemploDTO existente = criar("Exemplo Existente");
+
+                ExemploNomeDuplicadoException erro = assertThrows(
+                                ExemploNomeDuplicadoException.class,
+                                () -> criar("Exemplo Existente"));
+
+                // Consultado pelo serviço em transação própria, fora da que violou o índice
+                assertEquals(existente.getId(), erro.getIdExistente());
+                assertEquals(1, exemploRepository.count());
+        }
+
+        private ExemploDTO criar(String nome) throws Exception {
+                return exemploService.criar(referencia.getId(), nome, "Descrição", 1,
+                                new BigDecimal("10.00"), 1.0, LocalDateTime.of(2025, 11, 1, 10, 0));
+        }
+
+}
@@ -0,0 +1,154 @@
+package com.crudlandia.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.crudlandia.dtos.IngestaoExemploDTO;
+import com.crudlandia.enums.SituacaoIngestaoEnum;
+import com.crudlandia.exceptions.ExemploInvalidoException;
+import com.crudlandia.exceptions.FilaIngestaoCheiaException;
+import com.crudlandia.exceptions.IngestaoNaoEncontradaException;
+import com.crudlandia.exceptions.ReferenciaNaoEncontradoException;
+import com.crudlandia.models.entities.ReferenciaEntity;
+import com.crudlandia.models.repository.ExemploRepository;
+import com.crudlandia.models.repository.ReferenciaRepository;
+import com.crudlandia.services.exemplo.IngestaoExemploService;
+
+/**
+ * Testes da criação assíncrona de exemplos.
+ * 
+ * <p>
+ * Não é transacional: o escritor grava em suas próprias transações, em outra thread, e precisa
+ * enxergar a referência criada pelo teste.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class IngestaoExemploServiceTest {
+
+        private static final long PRAZO_MS = 10_000;
+
+        @Autowired
+        private IngestaoExemploService ingestaoExemploService;
+
+        @Autowired
+        private ExemploRepository exemploRepository;
+
+        @Autowired
+        private ReferenciaRepository referenciaRepository;
+
+        private ReferenciaEntity referencia;
+
+        @BeforeEach
+        void setUp() {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+
+                referencia = new ReferenciaEntity();
+                referencia.setCodigo("REF001");
+                referencia.setNome("Referência Teste");
+                referencia = referenciaRepository.save(referencia);
+        }
+
+        @AfterEach
+        void tearDown() {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Deve criar os exemplos enfileirados e registrar a falha dos duplicados")
+        void deveCriarExemplosEnfileirados() throws Exception {
+                IngestaoExemploDTO primeiro = enfileirar("Exemplo Assíncrono 1");
+                IngestaoExemploDTO segundo = enfileirar("Exemplo Assíncrono 2");
+                IngestaoExemploDTO duplicado = enfileirar("Exemplo Assíncrono 1");
+                assertEquals(SituacaoIngestaoEnum.PENDENTE, primeiro.getSituacao());
+
+                IngestaoExemploDTO situacaoPrimeiro = aguardar(primeiro.getId());
+                IngestaoExemploDTO situacaoSegundo = aguardar(segundo.getId());
+                IngestaoExemploDTO situacaoDuplicado = aguardar(duplicado.getId());
+
+                assertEquals(SituacaoIngestaoEnum.CRIADO, situacaoPrimeiro.getSituacao());
+                assertNotNull(situacaoPrimeiro.getExemploId());
+                assertEquals(SituacaoIngestaoEnum.CRIADO, situacaoSegundo.getSituacao());
+                assertEquals(SituacaoIngestaoEnum.FALHOU, situacaoDuplicado.getSituacao());
+                assertEquals("EXEMPLO_NOME_DUPLICADO", situacaoDuplicado.getErro());
+                assertEquals(2, exemploRepository.count());
+        }
+
+        @Test
+        @DisplayName("Deve recusar exemplos inválidos antes de enfileirar")
+        void deveRecusarExemplosInvalidos() {
+                assertThrows(ExemploInvalidoException.class,
+                                () -> ingestaoExemploService.enfileirar(referencia.getId(), " ",
+                                                null, null, null, null, null));
+                assertThrows(ReferenciaNaoEncontradoException.class,
+                                () -> ingestaoExemploService.enfileirar(referencia.getId() + 1000,
+                                                "Exemplo", null, null, null, null, null));
+                assertThrows(IngestaoNaoEncontradaException.class,
+                                () -> ingestaoExemploService.buscarSituacao("inexistente"));
+        }
+
+        @Test
+        @DisplayName("Deve gravar toda a fila no encerramento e recusar novos exemplos")
+        void deveEsvaziarAFilaNoEncerramento() throws Exception {
+                List<IngestaoExemploDTO> enfileirados = new ArrayList<>();
+                for (int i = 1; i <= 50; i++) {
+                        enfileirados.add(enfileirar("Exemplo Encerramento " + i));
+                }
+
+                SmartLifecycle ciclo = (SmartLifecycle) ingestaoExemploService;
+                try {
+                        ciclo.stop();
+
+                        // stop() só retorna depois que o escritor esvaziou a fila
+                        assertFalse(ciclo.isRunning());
+                        for (IngestaoExemploDTO enfileirado : enfileirados) {
+                                assertEquals(SituacaoIngestaoEnum.CRIADO, ingestaoExemploService
+                                                .buscarSituacao(enfileirado.getId()).getSituacao());
+                        }
+                        assertEquals(enfileirados.size(), exemploRepository.count());
+                        assertThrows(FilaIngestaoCheiaException.class,
+                                        () -> enfileirar("Exemplo Após Encerramento"));
+                } finally {
+                        // O contexto é compartilhado com os demais testes
+                        ciclo.start();
+                }
+        }
+
+        private IngestaoExemploDTO enfileirar(String nome) throws Exception {
+                return ingestaoExemploService.enfileirar(referencia.getId(), nome, "Descrição", 1,
+                                new BigDecimal("10.00"), 1.0, LocalDateTime.of(2025, 11, 1, 10, 0));
+        }
+
+        private IngestaoExemploDTO aguardar(String id) throws Exception {
+                long limite = System.currentTimeMillis() + PRAZO_MS;
+                IngestaoExemploDTO situacao = ingestaoExemploService.buscarSituacao(id);
+                while (situacao.getSituacao() == SituacaoIngestaoEnum.PENDENTE
+                                && System.currentTimeMillis() < limite) {
+                        Thread.sleep(50);
+                        situacao = ingestaoExemploService.buscarSituacao(id);
+                }
+                assertTrue(situacao.getSituacao() != SituacaoIngestaoEnum.PENDENTE,
+                                "Exemplo nao foi gravado no prazo");
+                return situacao;
+        }
+
+}
@@ -0,0 +1,201 @@
+package com.crudlandia.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.crudlandia.controllers.exemplo.request.PesquisarCadastroExemploRequest;
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.enums.StatusEnum;
+import com.crudlandia.enums.TipoContagemEnum;
+import com.crudlandia.mappers.ExemploMapper;
+import com.crudlandia.models.entities.ReferenciaEntity;
+import com.crudlandia.models.repository.ExemploRepository;
+import com.crudlandia.models.repository.ReferenciaRepository;
+import com.crudlandia.services.exemplo.ExemploService;
+import com.crudlandia.services.exemplo.ListagemExemploService;
+import com.github.pagehelper.PageInfo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Testes da listagem com contagem paralela ({@code contagem = PARALELA}).
+ * 
+ * <p>
+ * Não é transacional: a contagem roda em outra thread e só enxerga exemplos já confirmados. Os
+ * exemplos ocupam mais de uma página, para que o total não possa ser deduzido da página. O
+ * executor de contagem tem uma única thread e fila de um item, para que os testes possam ocupá-lo
+ * e provocar o tempo esgotado e a rejeição.
+ * </p>
+ */
+@SpringBootTest(properties = {"app.listagem.contagem-paralela.threads=1",
+                "app.listagem.contagem-paralela.fila=1",
+                "app.listagem.contagem-paralela.timeout-ms=1000"})
+@ActiveProfiles("test")
+class ListagemContagemParalelaTest {
+
+        private static final int EXEMPLOS = 5;
+        private static final int TAMANHO_PAGINA = 2;
+
+        @Autowired
+        private ListagemExemploService listagemExemploService;
+
+        @Autowired
+        private ExemploService exemploService;
+
+        @Autowired
+        private ExemploRepository exemploRepository;
+
+        @Autowired
+        private ReferenciaRepository referenciaRepository;
+
+        @Autowired
+        @Qualifier("contagemExecutor")
+        private ThreadPoolTaskExecutor contagemExecutor;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        private final CountDownLatch liberar = new CountDownLatch(1);
+
+        @BeforeEach
+        void setUp() throws Exception {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+
+                ReferenciaEntity referencia = new ReferenciaEntity();
+                referencia.setCodigo("REF001");
+                referencia.setNome("Referência Teste");
+                referencia = referenciaRepository.save(referencia);
+
+                List<ExemploDTO> exemplos = new ArrayList<>();
+                for (int i = 1; i <= EXEMPLOS; i++) {
+                        exemplos.add(new ExemploDTO(null, referencia.getId(), "Exemplo " + i,
+                                        "Descrição", i, new BigDecimal("10.00"), 1.0,
+                                        LocalDateTime.of(2025, 11, 1, 10, 0), null, null, null));
+                }
+                exemploService.criarLote(exemplos);
+        }
+
+        @AfterEach
+        void tearDown() throws InterruptedException {
+                // Libera o executor e aguarda as tarefas pendentes, para não ocupar o próximo teste
+                liberar.countDown();
+                aguardarExecutor();
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Deve obter o total pela contagem paralela quando há mais de uma página")
+        void deveObterTotalPelaContagemParalela() throws Exception {
+                PageInfo<ExemploDTO> pagina = listagemExemploService.listagem(request());
+
+                assertEquals(TAMANHO_PAGINA, pagina.getList().size());
+                assertEquals("Exemplo 1", pagina.getList().get(0).getNome());
+                assertEquals(EXEMPLOS, pagina.getTotal());
+                assertTrue(pagina.isHasNextPage());
+        }
+
+        @Test
+        @DisplayName("Deve devolver total -1 quando a contagem excede o tempo limite")
+        void deveDevolverTotalDesconhecidoNoTempoEsgotado() throws Exception {
+                // A única thread fica ocupada: a contagem entra na fila e não termina no prazo
+                contagemExecutor.execute(this::aguardarLiberacao);
+
+                PageInfo<ExemploDTO> pagina = listagemExemploService.listagem(request());
+
+                assertEquals(-1, pagina.getTotal());
+                assertEquals(TAMANHO_PAGINA, pagina.getList().size());
+                assertTrue(pagina.isHasNextPage());
+                assertFalse(pagina.isIsLastPage());
+        }
+
+        @Test
+        @DisplayName("Deve cancelar a contagem que ainda está na fila quando o prazo se esgota")
+        void deveCancelarContagemNaFilaNoTempoEsgotado() throws Exception {
+                contagemExecutor.execute(this::aguardarLiberacao);
+                long contagens = contagens();
+
+                assertEquals(-1, listagemExemploService.listagem(request()).getTotal());
+
+                // Liberada a thread, a contagem cancelada sai da fila sem consultar o banco
+                liberar.countDown();
+                aguardarExecutor();
+                assertEquals(contagens, contagens());
+        }
+
+        @Test
+        @DisplayName("Deve devolver total -1 quando o executor de contagem está saturado")
+        void deveDevolverTotalDesconhecidoComExecutorSaturado() throws Exception {
+                // Thread e fila ocupadas: a contagem é rejeitada sem aguardar o prazo
+                contagemExecutor.execute(this::aguardarLiberacao);
+                contagemExecutor.execute(this::aguardarLiberacao);
+
+                long inicio = System.nanoTime();
+                PageInfo<ExemploDTO> pagina = listagemExemploService.listagem(request());
+                long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+                assertEquals(-1, pagina.getTotal());
+                assertTrue(pagina.isHasNextPage());
+                assertTrue(duracaoMs < 1000, "aguardou o prazo: " + duracaoMs + " ms");
+        }
+
+        private PesquisarCadastroExemploRequest request() {
+                PesquisarCadastroExemploRequest request = new PesquisarCadastroExemploRequest();
+                request.setDthrInicio(LocalDate.of(2025, 1, 1));
+                request.setDthrFim(LocalDate.of(2025, 12, 31));
+                request.setNome("Exemplo");
+                request.setStatus(StatusEnum.ATIVO);
+                request.setPageNum(1);
+                request.setPageSize(TAMANHO_PAGINA);
+                request.setColumnType("nome");
+                request.setOrderType("ASC");
+                request.setContagem(TipoContagemEnum.PARALELA);
+                return request;
+        }
+
+        private void aguardarExecutor() throws InterruptedException {
+                while (contagemExecutor.getActiveCount() > 0
+                                || !contagemExecutor.getThreadPoolExecutor().getQueue().isEmpty()) {
+                        Thread.sleep(10);
+                }
+        }
+
+        /**
+         * Quantidade de COUNTs executados, pela métrica do {@code MetricasMyBatisInterceptor}.
+         */
+        private long contagens() {
+                Timer timer = meterRegistry.find("mybatis.statement")
+                                .tag("statement", ExemploMapper.class.getName() + ".contarExemplo")
+                                .timer();
+                return timer != null ? timer.count() : 0;
+        }
+
+        private void aguardarLiberacao() {
+                try {
+                        liberar.await();
+                } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                }
+        }
+
+}
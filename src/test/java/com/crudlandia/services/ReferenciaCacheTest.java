@@ -0,0 +1,142 @@
+package com.crudlandia.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.exceptions.ReferenciaNaoEncontradoException;
+import com.crudlandia.models.cache.ReferenciaCache;
+import com.crudlandia.models.entities.ReferenciaEntity;
+import com.crudlandia.models.repository.ExemploRepository;
+import com.crudlandia.models.repository.ReferenciaRepository;
+import com.crudlandia.services.exemplo.ExemploService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Testes do {@link ReferenciaCache} no caminho de escrita de exemplos.
+ * 
+ * <p>
+ * Não é transacional: cada chamada ao serviço usa uma sessão nova, de modo que a referência só
+ * deixa de ser carregada se a verificação for atendida pelo cache.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReferenciaCacheTest {
+
+        @Autowired
+        private ExemploService exemploService;
+
+        @Autowired
+        private ExemploRepository exemploRepository;
+
+        @Autowired
+        private ReferenciaRepository referenciaRepository;
+
+        @Autowired
+        private ReferenciaCache referenciaCache;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        private ReferenciaEntity referencia;
+
+        @BeforeEach
+        void setUp() {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+
+                referencia = new ReferenciaEntity();
+                referencia.setCodigo("REF001");
+                referencia.setNome("Referência Teste");
+                referencia = referenciaRepository.save(referencia);
+                referenciaCache.invalidar(referencia.getId());
+        }
+
+        @AfterEach
+        void tearDown() {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Deve criar sem carregar a referência quando ela está no cache")
+        void deveCriarSemCarregarReferenciaEmCache() throws Exception {
+                // Primeira criação: a referência é carregada e registrada no cache
+                estatisticas().clear();
+                criar("Exemplo Cache 1");
+                EntityStatistics primeira = estatisticasReferencia();
+                assertEquals(1, primeira.getLoadCount() + primeira.getCacheHitCount());
+                assertTrue(referenciaCache.contem(referencia.getId()));
+
+                // Segunda criação: nem SELECT nem cache de segundo nível, apenas o proxy
+                estatisticas().clear();
+                criar("Exemplo Cache 2");
+                EntityStatistics segunda = estatisticasReferencia();
+                assertEquals(0, segunda.getLoadCount());
+                assertEquals(0, segunda.getCacheHitCount());
+                assertEquals(2, exemploRepository.count());
+        }
+
+        @Test
+        @DisplayName("Deve invalidar o cache quando a referência é alterada ou removida")
+        void deveInvalidarCacheAoAlterarOuRemoverReferencia() {
+                referenciaCache.registrar(referencia.getId());
+                referencia.setNome("Referência Alterada");
+                referencia = referenciaRepository.save(referencia);
+                assertFalse(referenciaCache.contem(referencia.getId()));
+
+                referenciaCache.registrar(referencia.getId());
+                referenciaRepository.delete(referencia);
+                assertFalse(referenciaCache.contem(referencia.getId()));
+        }
+
+        @Test
+        @DisplayName("Deve remover do cache a referência excluída fora do Hibernate")
+        void deveRemoverDoCacheReferenciaExcluida() {
+                // Removida sem passar pelo listener: o cache fica desatualizado até a escrita
+                referenciaCache.registrar(referencia.getId());
+                jdbcTemplate.update("delete from referencias where id = ?", referencia.getId());
+
+                assertThrows(ReferenciaNaoEncontradoException.class,
+                                () -> criar("Exemplo Referência Removida"));
+
+                assertFalse(referenciaCache.contem(referencia.getId()));
+                assertEquals(0, exemploRepository.count());
+        }
+
+        private ExemploDTO criar(String nome) throws Exception {
+                return exemploService.criar(referencia.getId(), nome, "Descrição", 1,
+                                new BigDecimal("10.00"), 1.0, LocalDateTime.of(2025, 11, 1, 10, 0));
+        }
+
+        private Statistics estatisticas() {
+                return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        }
+
+        private EntityStatistics estatisticasReferencia() {
+                return estatisticas().getEntityStatistics(ReferenciaEntity.class.getName());
+        }
+
+}
@@ -0,0 +1,284 @@
+package com.crudlandia.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.NestedTestConfiguration;
+import org.springframework.test.context.NestedTestConfiguration.EnclosingConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.crudlandia.config.ReplicasDataSource;
+import com.crudlandia.controllers.exemplo.request.PesquisarCadastroExemploRequest;
+import com.crudlandia.dtos.ExemploDTO;
+import com.crudlandia.exceptions.ExemploNaoEncontradoException;
+import com.crudlandia.models.entities.ReferenciaEntity;
+import com.crudlandia.models.repository.ExemploRepository;
+import com.crudlandia.models.repository.ReferenciaRepository;
+import com.crudlandia.services.exemplo.ExemploService;
+import com.crudlandia.services.exemplo.ListagemExemploService;
+import com.github.pagehelper.PageInfo;
+
+/**
+ * Testes do roteamento das transações somente leitura para as réplicas.
+ *
+ * <p>
+ * O banco principal e as duas réplicas saudáveis são bancos H2 em memória distintos; a replicação
+ * é simulada copiando o conteúdo do principal para as réplicas, e cada réplica recebe uma tabela
+ * com o próprio nome, para que o teste saiba de qual banco veio a leitura. A réplica do meio
+ * aponta para um servidor inexistente. Não é transacional, para que as escritas sejam
+ * confirmadas no principal.
+ * </p>
+ */
+@SpringBootTest(properties = {
+                "spring.datasource.url=" + ReplicasLeituraTest.URL_PRINCIPAL,
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "app.datasource.replicas.habilitado=true",
+                "app.datasource.replicas.fontes[0].url=" + ReplicasLeituraTest.URL_REPLICA_A,
+                "app.datasource.replicas.fontes[1].url=" + ReplicasLeituraTest.URL_INEXISTENTE,
+                "app.datasource.replicas.fontes[1].timeout-conexao-ms=250",
+                "app.datasource.replicas.fontes[2].url=" + ReplicasLeituraTest.URL_REPLICA_B,
+                "app.datasource.replicas.intervalo-verificacao-ms=600000" })
+@ActiveProfiles("test")
+class ReplicasLeituraTest {
+
+        static final String URL_PRINCIPAL = "jdbc:h2:mem:replicasprincipal;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+        static final String URL_REPLICA_A = "jdbc:h2:mem:replicasleituraa;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+        static final String URL_REPLICA_B = "jdbc:h2:mem:replicasleiturab;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+        static final String URL_INEXISTENTE = "jdbc:h2:tcp://localhost:1/mem:inexistente";
+        static final String URL_PRINCIPAL_SEM_REPLICAS = "jdbc:h2:mem:replicassemreplicas;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+
+        @Autowired
+        private ExemploService exemploService;
+
+        @Autowired
+        private ListagemExemploService listagemExemploService;
+
+        @Autowired
+        private ExemploRepository exemploRepository;
+
+        @Autowired
+        private ReferenciaRepository referenciaRepository;
+
+        @Autowired
+        private ReplicasDataSource replicasDataSource;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        private ReferenciaEntity referencia;
+
+        @BeforeEach
+        void setUp() throws SQLException {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+
+                referencia = new ReferenciaEntity();
+                referencia.setCodigo("REF001");
+                referencia.setNome("Referência Teste");
+                referencia = referenciaRepository.save(referencia);
+                replicar();
+        }
+
+        @AfterEach
+        void tearDown() {
+                exemploRepository.deleteAll();
+                referenciaRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Deve ler das réplicas em transações somente leitura e escrever no principal")
+        void deveLerDaReplicaEEscreverNoPrincipal() throws Exception {
+                ExemploDTO criado = criar();
+
+                // Fora de transação somente leitura a consulta vai ao principal
+                assertEquals(1, jdbcTemplate.queryForObject(
+                                "select count(*) from exemplos where id = ?", Long.class,
+                                criado.getId()));
+                // As réplicas ainda não receberam o novo exemplo
+                assertThrows(ExemploNaoEncontradoException.class,
+                                () -> exemploService.buscarPorId(criado.getId()));
+
+                replicar();
+
+                assertEquals("Exemplo Réplica",
+                                exemploService.buscarPorId(criado.getId()).getNome());
+        }
+
+        @Test
+        @DisplayName("Deve alternar as leituras entre as réplicas saudáveis")
+        void deveAlternarEntreAsReplicasSaudaveis() {
+                replicasDataSource.verificar();
+
+                List<String> origens = new ArrayList<>();
+                for (int i = 0; i < 6; i++) {
+                        origens.add(lerOrigem());
+                }
+
+                assertEquals(Set.of("replicasleituraa", "replicasleiturab"), Set.copyOf(origens));
+                for (int i = 1; i < origens.size(); i++) {
+                        assertNotEquals(origens.get(i - 1), origens.get(i), "leituras: " + origens);
+                }
+        }
+
+        @Test
+        @DisplayName("Deve executar a listagem do MyBatis na réplica")
+        void deveListarPeloMyBatisNaReplica() throws Exception {
+                criar();
+
+                // O exemplo está no principal, mas ainda não nas réplicas
+                PageInfo<ExemploDTO> pagina = listagemExemploService.listagem(request());
+                assertTrue(pagina.getList().isEmpty());
+
+                replicar();
+
+                pagina = listagemExemploService.listagem(request());
+                assertEquals(1, pagina.getList().size());
+                assertEquals("Exemplo Réplica", pagina.getList().get(0).getNome());
+        }
+
+        @Test
+        @DisplayName("Deve ignorar réplicas indisponíveis")
+        void deveIgnorarReplicasIndisponiveis() {
+                replicasDataSource.verificar();
+
+                assertEquals(List.of("replica-1", "replica-3"),
+                                replicasDataSource.getReplicasSaudaveis());
+        }
+
+        private ExemploDTO criar() throws Exception {
+                return exemploService.criar(referencia.getId(), "Exemplo Réplica", "Descrição", 1,
+                                new BigDecimal("10.00"), 1.0, LocalDateTime.of(2025, 11, 1, 10, 0));
+        }
+
+        /**
+         * Lê, em uma transação somente leitura, o nome do banco que atendeu a leitura.
+         */
+        private String lerOrigem() {
+                TransactionTemplate leitura = new TransactionTemplate(transactionManager);
+                leitura.setReadOnly(true);
+                return leitura.execute(status -> jdbcTemplate
+                                .queryForObject("select nome from origem_replica", String.class));
+        }
+
+        private PesquisarCadastroExemploRequest request() {
+                PesquisarCadastroExemploRequest request = new PesquisarCadastroExemploRequest();
+                request.setDthrInicio(LocalDate.of(2025, 1, 1));
+                request.setDthrFim(LocalDate.of(2025, 12, 31));
+                request.setColumnType("nome");
+                request.setOrderType("ASC");
+                return request;
+        }
+
+        /**
+         * Recria as réplicas com o schema e os dados atuais do principal.
+         */
+        private void replicar() throws SQLException {
+                List<String> comandos = new ArrayList<>();
+                try (Connection principal = DriverManager.getConnection(URL_PRINCIPAL, "sa", "");
+                                Statement st = principal.createStatement();
+                                ResultSet rs = st.executeQuery("script")) {
+                        while (rs.next()) {
+                                comandos.add(rs.getString(1));
+                        }
+                }
+                replicar(URL_REPLICA_A, "replicasleituraa", comandos);
+                replicar(URL_REPLICA_B, "replicasleiturab", comandos);
+        }
+
+        private static void replicar(String url, String nome, List<String> comandos)
+                        throws SQLException {
+                try (Connection replica = DriverManager.getConnection(url, "sa", "");
+                                Statement st = replica.createStatement()) {
+                        st.execute("drop all objects");
+                        for (String comando : comandos) {
+                                st.execute(comando);
+                        }
+                        st.execute("create table origem_replica (nome varchar(50))");
+                        st.execute("insert into origem_replica values ('" + nome + "')");
+                }
+        }
+
+        /**
+         * Sem nenhuma réplica disponível, as leituras são atendidas pelo principal. Usa outro
+         * contexto, com outro banco principal e apenas réplicas inexistentes.
+         */
+        @Nested
+        @NestedTestConfiguration(EnclosingConfiguration.OVERRIDE)
+        @SpringBootTest(properties = {
+                        "spring.datasource.url=" + ReplicasLeituraTest.URL_PRINCIPAL_SEM_REPLICAS,
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "app.datasource.replicas.habilitado=true",
+                        "app.datasource.replicas.fontes[0].url=" + ReplicasLeituraTest.URL_INEXISTENTE,
+                        "app.datasource.replicas.fontes[0].timeout-conexao-ms=250",
+                        "app.datasource.replicas.fontes[1].url=" + ReplicasLeituraTest.URL_INEXISTENTE,
+                        "app.datasource.replicas.fontes[1].timeout-conexao-ms=250",
+                        "app.datasource.replicas.intervalo-verificacao-ms=600000" })
+        @ActiveProfiles("test")
+        class SemReplicasDisponiveis {
+
+                @Autowired
+                private ExemploService exemploService;
+
+                @Autowired
+                private ReferenciaRepository referenciaRepository;
+
+                @Autowired
+                private ExemploRepository exemploRepository;
+
+                @Autowired
+                private ReplicasDataSource replicasDataSource;
+
+                @AfterEach
+                void tearDown() {
+                        exemploRepository.deleteAll();
+                        referenciaRepository.deleteAll();
+                }
+
+                @Test
+                @DisplayName("Deve ler do principal quando todas as réplicas estão indisponíveis")
+                void deveLerDoPrincipalSemReplicas() throws Exception {
+                        replicasDataSource.verificar();
+                        assertTrue(replicasDataSource.getReplicasSaudaveis().isEmpty());
+
+                        ReferenciaEntity referencia = new ReferenciaEntity();
+                        referencia.setCodigo("REF002");
+                        referencia.setNome("Referência Sem Réplicas");
+                        referencia = referenciaRepository.save(referencia);
+                        ExemploDTO criado = exemploService.criar(referencia.getId(),
+                                        "Exemplo Principal", "Descrição", 1,
+                                        new BigDecimal("10.00"), 1.0,
+                                        LocalDateTime.of(2025, 11, 1, 10, 0));
+
+                        assertEquals("Exemplo Principal",
+                                        exemploService.buscarPorId(criado.getId()).getNome());
+                }
+        }
+
+}